@@ -0,0 +1,193 @@
+package domus.challenge.accesslog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Structured access log that keeps request threads off the logging path. Every request
+ * only bumps per-route counters; one in {@code sample-rate} requests (and every 5xx)
+ * is also copied into a lock-free ring. A single background thread drains the ring
+ * into the {@code domus.challenge.access} logger and writes one summary line per
+ * route and interval instead of one line per request.
+ */
+@Slf4j
+@Component
+public class AccessLog {
+
+    public static final int NO_THRESHOLD = -1;
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("domus.challenge.access");
+
+    @Value("${access-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${access-log.sample-rate:100}")
+    private int sampleRate;
+
+    @Value("${access-log.buffer-size:1024}")
+    private int bufferSize;
+
+    @Value("${access-log.interval:10000}")
+    private long intervalMillis;
+
+    private final Map<String, Integer> routeIds = new ConcurrentHashMap<>();
+    private final List<RouteStats> routes = new CopyOnWriteArrayList<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final StringBuilder line = new StringBuilder(128);
+
+    private AccessLogRing ring;
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        ring = new AccessLogRing(bufferSize);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "access-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flushSafely();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Resolves a route name to the id used by {@link #record}. Allocates only the first
+     * time a route is seen.
+     */
+    public int routeId(String route) {
+        Integer id = routeIds.get(route);
+        if (id != null) {
+            return id;
+        }
+        synchronized (routes) {
+            return routeIds.computeIfAbsent(route, name -> {
+                routes.add(new RouteStats(name));
+                return routes.size() - 1;
+            });
+        }
+    }
+
+    public void record(int route, int status, int threshold, long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+        routes.get(route).record(status, latencyNanos);
+        if (status >= 500 || (sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0)) {
+            ring.offer(route, status, threshold, latencyNanos, System.currentTimeMillis());
+        }
+    }
+
+    public void recordCacheLookup(boolean hit) {
+        if (enabled) {
+            (hit ? cacheHits : cacheMisses).increment();
+        }
+    }
+
+    synchronized void flush() {
+        if (ring == null) {
+            return;
+        }
+        ring.drain(this::logSample);
+
+        for (RouteStats stats : routes) {
+            long requests = stats.requests.sumThenReset();
+            if (requests == 0) {
+                continue;
+            }
+            long latency = stats.latencyNanos.sumThenReset();
+            long max = stats.maxLatencyNanos.getThenReset();
+            ACCESS.info("summary route={} requests={} 2xx={} 3xx={} 4xx={} 5xx={} avgMicros={} maxMicros={}",
+                    stats.name, requests, stats.ok.sumThenReset(), stats.redirect.sumThenReset(),
+                    stats.clientError.sumThenReset(), stats.serverError.sumThenReset(),
+                    latency / requests / 1_000, max / 1_000);
+        }
+
+        long hits = cacheHits.sumThenReset();
+        long misses = cacheMisses.sumThenReset();
+        long dropped = ring.droppedAndReset();
+        if (hits + misses + dropped > 0) {
+            ACCESS.info("summary cacheHits={} cacheMisses={} droppedSamples={}", hits, misses, dropped);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Access log flush failed: {}", ex.getMessage());
+        }
+    }
+
+    private void logSample(int route, int status, int threshold, long latencyNanos, long timestampMillis) {
+        line.setLength(0);
+        line.append("ts=").append(timestampMillis)
+                .append(" route=").append(routes.get(route).name)
+                .append(" status=").append(status)
+                .append(" micros=").append(latencyNanos / 1_000);
+        if (threshold != NO_THRESHOLD) {
+            line.append(" threshold=").append(threshold);
+        }
+        ACCESS.info(line.toString());
+    }
+
+    private static final class RouteStats {
+        private final String name;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder redirect = new LongAdder();
+        private final LongAdder clientError = new LongAdder();
+        private final LongAdder serverError = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+        private RouteStats(String name) {
+            this.name = name;
+        }
+
+        private void record(int status, long latency) {
+            requests.increment();
+            latencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+            if (status >= 500) {
+                serverError.increment();
+            } else if (status >= 400) {
+                clientError.increment();
+            } else if (status >= 300) {
+                redirect.increment();
+            } else {
+                ok.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package domus.challenge.accesslog;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-size multi-producer, single-consumer ring of preallocated entries. Producers
+ * claim a sequence with one atomic increment and never wait; when the consumer falls
+ * a full lap behind, the oldest entries are overwritten and counted as dropped. Each
+ * slot is a seqlock, so the consumer discards entries that were rewritten while it
+ * was reading them.
+ */
+final class AccessLogRing {
+
+    private static final long WRITING = -1L;
+
+    private final Entry[] entries;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private long tail;
+    private long dropped;
+
+    AccessLogRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+        }
+    }
+
+    void offer(int route, int status, int threshold, long latencyNanos, long timestampMillis) {
+        long sequence = head.getAndIncrement();
+        Entry entry = entries[(int) (sequence & mask)];
+        Entry.PUBLISHED.setVolatile(entry, WRITING);
+        VarHandle.storeStoreFence();
+        entry.route = route;
+        entry.status = status;
+        entry.threshold = threshold;
+        entry.latencyNanos = latencyNanos;
+        entry.timestampMillis = timestampMillis;
+        Entry.PUBLISHED.setRelease(entry, sequence);
+    }
+
+    /**
+     * Hands every published entry to {@code consumer}. Must only be called from one
+     * thread at a time.
+     */
+    int drain(EntryConsumer consumer) {
+        long limit = head.get();
+        if (limit - tail > entries.length) {
+            dropped += limit - tail - entries.length;
+            tail = limit - entries.length;
+        }
+        int drained = 0;
+        while (tail < limit) {
+            Entry entry = entries[(int) (tail & mask)];
+            long published = (long) Entry.PUBLISHED.getAcquire(entry);
+            if (published == WRITING || published < tail) {
+                break;
+            }
+            int route = entry.route;
+            int status = entry.status;
+            int threshold = entry.threshold;
+            long latencyNanos = entry.latencyNanos;
+            long timestampMillis = entry.timestampMillis;
+            VarHandle.loadLoadFence();
+            if (published != tail || (long) Entry.PUBLISHED.getVolatile(entry) != published) {
+                dropped++;
+            } else {
+                consumer.accept(route, status, threshold, latencyNanos, timestampMillis);
+                drained++;
+            }
+            tail++;
+        }
+        return drained;
+    }
+
+    long droppedAndReset() {
+        long value = dropped;
+        dropped = 0;
+        return value;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int route, int status, int threshold, long latencyNanos, long timestampMillis);
+    }
+
+    private static final class Entry {
+        private static final VarHandle PUBLISHED;
+
+        static {
+            try {
+                PUBLISHED = MethodHandles.lookup().findVarHandle(Entry.class, "published", long.class);
+            } catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        @SuppressWarnings("unused")
+        private volatile long published = WRITING;
+        private int route;
+        private int status;
+        private int threshold;
+        private long latencyNanos;
+        private long timestampMillis;
+    }
+}
@@ -0,0 +1,69 @@
+package domus.challenge.accesslog;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+/**
+ * Feeds every HTTP exchange into the {@link AccessLog} just before the response is
+ * committed, after any {@code WebExceptionHandler} has set the final status, so
+ * unmatched routes and dispatcher errors are counted under their real status. Latency
+ * is time to commit. Requests are keyed by their matched route pattern, so the
+ * per-request work is a map lookup and a few counter increments. Registered in
+ * {@code AccessLogConfig} so controller slice tests do not pick it up.
+ */
+public class AccessLogWebFilter implements WebFilter, Ordered {
+
+    private static final String UNMATCHED = "unmatched";
+
+    private final AccessLog accessLog;
+
+    public AccessLogWebFilter(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!accessLog.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        exchange.getResponse().beforeCommit(() -> Mono.fromRunnable(() -> record(exchange, System.nanoTime() - start)));
+        return chain.filter(exchange);
+    }
+
+    private void record(ServerWebExchange exchange, long latencyNanos) {
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        accessLog.record(
+                accessLog.routeId(pattern == null ? UNMATCHED : pattern.getPatternString()),
+                status == null ? 200 : status.value(),
+                threshold(exchange.getRequest().getQueryParams().getFirst("threshold")),
+                latencyNanos);
+    }
+
+    private static int threshold(String value) {
+        if (value == null || value.isEmpty() || value.length() > 9) {
+            return AccessLog.NO_THRESHOLD;
+        }
+        int result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return AccessLog.NO_THRESHOLD;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,171 @@
+package domus.challenge.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Second-tier cache that keeps values serialized as JSON in pooled direct buffers, so
+ * cached volume is bounded by {@code maxBytes} of off-heap memory instead of heap.
+ * Eviction is Caffeine's W-TinyLFU weighted by payload size; buffers are released
+ * as soon as an entry is removed.
+ */
+@Slf4j
+public class OffHeapCache<K, V> {
+
+    private final Cache<K, Entry> entries;
+    private final Ticker ticker;
+    private final ByteBufAllocator allocator;
+    private final ObjectMapper objectMapper;
+    private final Class<V> type;
+    private final AtomicLong offHeapBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public OffHeapCache(long maxBytes, Duration expireAfterWrite, ByteBufAllocator allocator,
+                        ObjectMapper objectMapper, Class<V> type) {
+        this(maxBytes, expireAfterWrite, allocator, objectMapper, type, Ticker.systemTicker());
+    }
+
+    OffHeapCache(long maxBytes, Duration expireAfterWrite, ByteBufAllocator allocator,
+                 ObjectMapper objectMapper, Class<V> type, Ticker ticker) {
+        this.ticker = ticker;
+        this.allocator = allocator;
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((K key, Entry value) -> value.buffer.readableBytes())
+                .expireAfter(new WriteTimeExpiry<K>(expireAfterWrite.toNanos()))
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .removalListener((K key, Entry value, RemovalCause cause) -> {
+                    if (value != null) {
+                        offHeapBytes.addAndGet(-value.buffer.readableBytes());
+                        value.buffer.release();
+                    }
+                })
+                .build();
+    }
+
+    public V getIfPresent(K key) {
+        ByteBuf retained = retain(key);
+        if (retained == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        try {
+            return objectMapper.readValue((InputStream) new ByteBufInputStream(retained.duplicate()), type);
+        } catch (IOException ex) {
+            log.warn("Dropping unreadable off-heap entry {}: {}", key, ex.getMessage());
+            entries.invalidate(key);
+            return null;
+        } finally {
+            retained.release();
+        }
+    }
+
+    /**
+     * Retains the buffer inside the map's atomic section, so an eviction cannot release it
+     * and let the pool hand it to another entry between lookup and retain. Returning the
+     * same entry counts as an update, which {@link WriteTimeExpiry} keeps from extending
+     * the entry's lifetime.
+     */
+    private ByteBuf retain(K key) {
+        Entry entry = entries.asMap().computeIfPresent(key, (k, value) -> {
+            value.buffer.retain();
+            return value;
+        });
+        return entry == null ? null : entry.buffer;
+    }
+
+    public void put(K key, V value) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            log.warn("Could not serialize {} for the off-heap cache: {}", key, ex.getMessage());
+            return;
+        }
+        ByteBuf buffer = allocator.directBuffer(payload.length, payload.length).writeBytes(payload);
+        offHeapBytes.addAndGet(buffer.readableBytes());
+        entries.put(key, new Entry(buffer, ticker.read()));
+    }
+
+    public void invalidate(K key) {
+        entries.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    public void cleanUp() {
+        entries.cleanUp();
+    }
+
+    public long offHeapBytes() {
+        return offHeapBytes.get();
+    }
+
+    public long estimatedSize() {
+        return entries.estimatedSize();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private static final class Entry {
+        private final ByteBuf buffer;
+        private final long writtenAtNanos;
+
+        private Entry(ByteBuf buffer, long writtenAtNanos) {
+            this.buffer = buffer;
+            this.writtenAtNanos = writtenAtNanos;
+        }
+    }
+
+    /**
+     * Expire-after-write keyed on the time the payload was stored, so the compute used
+     * by reads never resets it while a {@code put} of a new payload does.
+     */
+    private static final class WriteTimeExpiry<K> implements Expiry<K, Entry> {
+        private final long ttlNanos;
+
+        private WriteTimeExpiry(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(K key, Entry value, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry value, long currentTime, long currentDuration) {
+            return value.writtenAtNanos + ttlNanos - currentTime;
+        }
+
+        @Override
+        public long expireAfterRead(K key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package domus.challenge.catalog;
+
+import lombok.Value;
+
+/**
+ * Published whenever the current catalog snapshot changes. {@code snapshot} is null
+ * when the catalog was invalidated without a replacement.
+ */
+@Value
+public class CatalogRefreshedEvent {
+    CatalogSnapshot snapshot;
+}
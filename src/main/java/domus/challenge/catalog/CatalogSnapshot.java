@@ -0,0 +1,153 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.request.CatalogFilter;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, column-oriented view of the whole movie catalog built once per refresh.
+ * Filters are resolved against per-value bitmaps and counts are taken over the
+ * dictionary-encoded dimension columns, so no query ever goes back upstream.
+ */
+public final class CatalogSnapshot {
+
+    @Getter
+    private final long version;
+
+    @Getter
+    private final Instant builtAt;
+
+    private final int size;
+    private final int[] years;
+    private final String[] titles;
+    private final DimensionColumn rated;
+    private final DimensionColumn released;
+    private final DimensionColumn runtimes;
+    private final Map<Dimension, DimensionColumn> columns;
+    private final int[] distinctYears;
+    private final BitSet[] yearIndex;
+    private final BitSet[] genreIndex;
+    private final BitSet[] ratedIndex;
+
+    @Getter
+    private final MovieIndex movieIndex;
+
+    CatalogSnapshot(long version, Instant builtAt, int size, int[] years, String[] titles,
+                    DimensionColumn rated, DimensionColumn released, DimensionColumn runtimes,
+                    Map<Dimension, DimensionColumn> columns, int[] distinctYears, BitSet[] yearIndex,
+                    MovieIndex movieIndex) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.size = size;
+        this.years = years;
+        this.titles = titles;
+        this.rated = rated;
+        this.released = released;
+        this.runtimes = runtimes;
+        this.columns = columns;
+        this.distinctYears = distinctYears;
+        this.yearIndex = yearIndex;
+        this.genreIndex = columns.get(Dimension.GENRE).bitmapIndex();
+        this.ratedIndex = rated.bitmapIndex();
+        this.movieIndex = movieIndex;
+    }
+
+    /**
+     * Same columns and indexes under a different build time, used when a peer confirms
+     * it holds identical content that was rebuilt more recently than ours.
+     */
+    public CatalogSnapshot withBuiltAt(Instant builtAt) {
+        return new CatalogSnapshot(version, builtAt, size, years, titles, rated, released, runtimes,
+                columns, distinctYears, yearIndex, movieIndex);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int distinctValues(Dimension dimension) {
+        return columns.get(dimension).dictionary().size();
+    }
+
+    public int year(int movieId) {
+        return years[movieId];
+    }
+
+    public Movie movie(int movieId) {
+        return Movie.builder()
+                .title(titles[movieId])
+                .year(years[movieId])
+                .rated(rated.valueAt(movieId))
+                .released(released.valueAt(movieId))
+                .runtime(runtimes.valueAt(movieId))
+                .genre(columns.get(Dimension.GENRE).valueAt(movieId))
+                .director(columns.get(Dimension.DIRECTOR).valueAt(movieId))
+                .writer(columns.get(Dimension.WRITER).valueAt(movieId))
+                .actors(columns.get(Dimension.ACTOR).valueAt(movieId))
+                .build();
+    }
+
+    public BitSet select(CatalogFilter filter) {
+        BitSet rows = new BitSet(size);
+        rows.set(0, size);
+        if (filter == null || filter.isEmpty()) {
+            return rows;
+        }
+
+        if (filter.getYearFrom() != null || filter.getYearTo() != null) {
+            rows.and(yearRange(filter.getYearFrom(), filter.getYearTo()));
+        }
+        if (filter.getGenre() != null) {
+            StringDictionary genres = columns.get(Dimension.GENRE).dictionary();
+            rows.and(lookup(genreIndex, genres.idOfIgnoreCase(filter.getGenre().trim())));
+        }
+        if (filter.getRated() != null) {
+            rows.and(lookup(ratedIndex, rated.dictionary().idOfIgnoreCase(filter.getRated().trim())));
+        }
+        return rows;
+    }
+
+    public List<String> valuesWithMoreThan(Dimension dimension, int threshold, CatalogFilter filter) {
+        return valuesWithMoreThan(dimension, threshold, select(filter));
+    }
+
+    /**
+     * Same as the filter variant over rows already resolved with {@link #select}.
+     */
+    public List<String> valuesWithMoreThan(Dimension dimension, int threshold, BitSet rows) {
+        DimensionColumn column = columns.get(dimension);
+        int[] counts = column.count(rows);
+
+        List<String> result = new ArrayList<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > threshold) {
+                result.add(column.dictionary().decode(id));
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private BitSet yearRange(Integer from, Integer to) {
+        int lower = from == null ? Integer.MIN_VALUE : from;
+        int upper = to == null ? Integer.MAX_VALUE : to;
+        BitSet rows = new BitSet(size);
+
+        int start = Arrays.binarySearch(distinctYears, lower);
+        for (int i = start < 0 ? -start - 1 : start; i < distinctYears.length && distinctYears[i] <= upper; i++) {
+            rows.or(yearIndex[i]);
+        }
+        return rows;
+    }
+
+    private static BitSet lookup(BitSet[] index, int id) {
+        return id == StringDictionary.MISSING ? new BitSet() : index[id];
+    }
+}
@@ -0,0 +1,94 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Accumulates movies page by page and fills every dimension column in the same pass,
+ * so one crawl serves counts over directors, actors, writers and genres alike.
+ */
+public final class CatalogSnapshotBuilder {
+
+    private int size;
+    private int[] years = new int[256];
+    private String[] titles = new String[256];
+
+    private final Map<Dimension, DimensionColumn.Builder> columns = new EnumMap<>(Dimension.class);
+    private final DimensionColumn.Builder rated = new DimensionColumn.Builder(false);
+    private final DimensionColumn.Builder released = new DimensionColumn.Builder(false);
+    private final DimensionColumn.Builder runtimes = new DimensionColumn.Builder(false);
+    private final MovieIndex.Builder index = new MovieIndex.Builder();
+    private final TreeMap<Integer, BitSet> yearIndex = new TreeMap<>();
+
+    public CatalogSnapshotBuilder() {
+        for (Dimension dimension : Dimension.values()) {
+            columns.put(dimension, new DimensionColumn.Builder(dimension.isMultiValued()));
+        }
+    }
+
+    public CatalogSnapshotBuilder add(Movie movie) {
+        int row = size++;
+        if (row == years.length) {
+            years = Arrays.copyOf(years, row * 2);
+            titles = Arrays.copyOf(titles, row * 2);
+        }
+
+        years[row] = movie.getYear();
+        titles[row] = movie.getTitle();
+        yearIndex.computeIfAbsent(movie.getYear(), year -> new BitSet()).set(row);
+        rated.add(movie.getRated());
+        released.add(movie.getReleased());
+        runtimes.add(movie.getRuntime());
+        index.add(row, movie.getTitle());
+        index.add(row, movie.getActors());
+
+        columns.forEach((dimension, column) -> column.add(dimension.valueOf(movie)));
+        return this;
+    }
+
+    public CatalogSnapshot build() {
+        return build(Instant.now());
+    }
+
+    /**
+     * Builds the snapshot stamped with the given build time, used when a snapshot crawled
+     * elsewhere is rebuilt locally and must keep its original age.
+     */
+    public CatalogSnapshot build(Instant builtAt) {
+        int[] distinctYears = new int[yearIndex.size()];
+        BitSet[] yearBitmaps = new BitSet[yearIndex.size()];
+        int i = 0;
+        for (Map.Entry<Integer, BitSet> entry : yearIndex.entrySet()) {
+            distinctYears[i] = entry.getKey();
+            yearBitmaps[i++] = entry.getValue();
+        }
+
+        int[] builtYears = Arrays.copyOf(years, size);
+        String[] builtTitles = Arrays.copyOf(titles, size);
+        DimensionColumn builtRated = rated.build();
+        DimensionColumn builtReleased = released.build();
+        DimensionColumn builtRuntimes = runtimes.build();
+        Map<Dimension, DimensionColumn> built = new EnumMap<>(Dimension.class);
+        columns.forEach((dimension, column) -> built.put(dimension, column.build()));
+
+        long version = Fingerprint.SEED;
+        for (int row = 0; row < size; row++) {
+            version = Fingerprint.mix(Fingerprint.mix(version, builtYears[row]), builtTitles[row]);
+        }
+        version = builtRated.fingerprint(version);
+        version = builtReleased.fingerprint(version);
+        version = builtRuntimes.fingerprint(version);
+        for (DimensionColumn column : built.values()) {
+            version = column.fingerprint(version);
+        }
+
+        return new CatalogSnapshot(version, builtAt, size, builtYears, builtTitles,
+                builtRated, builtReleased, builtRuntimes, built, distinctYears, yearBitmaps, index.build());
+    }
+}
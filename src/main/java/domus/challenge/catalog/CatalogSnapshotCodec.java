@@ -0,0 +1,140 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact binary form of a snapshot for peer sharing: one shared string table
+ * followed by one row of varint string ids per movie, gzip-compressed. Decoding
+ * rebuilds the columns and indexes locally and rejects payloads whose recomputed
+ * version does not match the advertised one.
+ */
+public final class CatalogSnapshotCodec {
+
+    private static final int MAGIC = 0x44435331;
+
+    private CatalogSnapshotCodec() {
+    }
+
+    public static byte[] encode(CatalogSnapshot snapshot) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[][] rows = new int[snapshot.size()][];
+        for (int movieId = 0; movieId < rows.length; movieId++) {
+            Movie movie = snapshot.movie(movieId);
+            rows[movieId] = new int[]{
+                    movie.getYear(),
+                    intern(movie.getTitle(), ids, strings),
+                    intern(movie.getRated(), ids, strings),
+                    intern(movie.getReleased(), ids, strings),
+                    intern(movie.getRuntime(), ids, strings),
+                    intern(movie.getGenre(), ids, strings),
+                    intern(movie.getDirector(), ids, strings),
+                    intern(movie.getWriter(), ids, strings),
+                    intern(movie.getActors(), ids, strings)
+            };
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(MAGIC);
+            out.writeLong(snapshot.getVersion());
+            out.writeLong(snapshot.getBuiltAt().toEpochMilli());
+            writeVarInt(out, strings.size());
+            for (String value : strings) {
+                out.writeUTF(value);
+            }
+            writeVarInt(out, rows.length);
+            for (int[] row : rows) {
+                out.writeInt(row[0]);
+                for (int i = 1; i < row.length; i++) {
+                    writeVarInt(out, row[i]);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static CatalogSnapshot decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(payload)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a catalog snapshot payload");
+            }
+            long version = in.readLong();
+            Instant builtAt = Instant.ofEpochMilli(in.readLong());
+
+            String[] strings = new String[readVarInt(in) + 1];
+            for (int i = 1; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+
+            CatalogSnapshotBuilder builder = new CatalogSnapshotBuilder();
+            int movies = readVarInt(in);
+            for (int i = 0; i < movies; i++) {
+                builder.add(Movie.builder()
+                        .year(in.readInt())
+                        .title(strings[readVarInt(in)])
+                        .rated(strings[readVarInt(in)])
+                        .released(strings[readVarInt(in)])
+                        .runtime(strings[readVarInt(in)])
+                        .genre(strings[readVarInt(in)])
+                        .director(strings[readVarInt(in)])
+                        .writer(strings[readVarInt(in)])
+                        .actors(strings[readVarInt(in)])
+                        .build());
+            }
+
+            CatalogSnapshot snapshot = builder.build(builtAt);
+            if (snapshot.getVersion() != version) {
+                throw new IllegalArgumentException("Catalog snapshot payload failed version check");
+            }
+            return snapshot;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static int intern(String value, Map<String, Integer> ids, List<String> strings) {
+        if (value == null) {
+            return 0;
+        }
+        return ids.computeIfAbsent(value, key -> {
+            strings.add(key);
+            return strings.size();
+        });
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
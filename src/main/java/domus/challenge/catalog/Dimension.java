@@ -0,0 +1,32 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+
+import java.util.function.Function;
+
+/**
+ * Movie fields that can be counted by the aggregation engine. Multi-valued fields
+ * hold comma-separated lists upstream and every entry is counted separately.
+ */
+public enum Dimension {
+    DIRECTOR(Movie::getDirector, false),
+    ACTOR(Movie::getActors, true),
+    WRITER(Movie::getWriter, true),
+    GENRE(Movie::getGenre, true);
+
+    private final Function<Movie, String> extractor;
+    private final boolean multiValued;
+
+    Dimension(Function<Movie, String> extractor, boolean multiValued) {
+        this.extractor = extractor;
+        this.multiValued = multiValued;
+    }
+
+    String valueOf(Movie movie) {
+        return extractor.apply(movie);
+    }
+
+    boolean isMultiValued() {
+        return multiValued;
+    }
+}
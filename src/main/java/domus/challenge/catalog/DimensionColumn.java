@@ -0,0 +1,129 @@
+package domus.challenge.catalog;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Dictionary-encoded, possibly multi-valued column stored in compressed sparse row
+ * form: the ids for movie {@code row} live in {@code values[offsets[row]..offsets[row + 1])}.
+ */
+final class DimensionColumn {
+
+    private final StringDictionary dictionary;
+    private final int[] offsets;
+    private final int[] values;
+
+    private DimensionColumn(StringDictionary dictionary, int[] offsets, int[] values) {
+        this.dictionary = dictionary;
+        this.offsets = offsets;
+        this.values = values;
+    }
+
+    StringDictionary dictionary() {
+        return dictionary;
+    }
+
+    String valueAt(int row) {
+        int from = offsets[row];
+        int to = offsets[row + 1];
+        if (from == to) {
+            return null;
+        }
+        if (to - from == 1) {
+            return dictionary.decode(values[from]);
+        }
+        StringBuilder joined = new StringBuilder(dictionary.decode(values[from]));
+        for (int i = from + 1; i < to; i++) {
+            joined.append(", ").append(dictionary.decode(values[i]));
+        }
+        return joined.toString();
+    }
+
+    int[] count(BitSet rows) {
+        int[] counts = new int[dictionary.size()];
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                counts[values[i]]++;
+            }
+        }
+        return counts;
+    }
+
+    long fingerprint(long hash) {
+        for (int id = 0; id < dictionary.size(); id++) {
+            hash = Fingerprint.mix(hash, dictionary.decode(id));
+        }
+        for (int offset : offsets) {
+            hash = Fingerprint.mix(hash, offset);
+        }
+        for (int value : values) {
+            hash = Fingerprint.mix(hash, value);
+        }
+        return hash;
+    }
+
+    BitSet[] bitmapIndex() {
+        BitSet[] index = new BitSet[dictionary.size()];
+        for (int id = 0; id < index.length; id++) {
+            index[id] = new BitSet();
+        }
+        for (int row = 0; row < offsets.length - 1; row++) {
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                index[values[i]].set(row);
+            }
+        }
+        return index;
+    }
+
+    static final class Builder {
+
+        private final StringDictionary dictionary = new StringDictionary();
+        private final boolean multiValued;
+        private int rows;
+        private int size;
+        private int[] offsets = new int[257];
+        private int[] values = new int[256];
+
+        Builder(boolean multiValued) {
+            this.multiValued = multiValued;
+        }
+
+        void add(String raw) {
+            if (raw != null) {
+                if (!multiValued) {
+                    append(dictionary.encode(raw));
+                } else {
+                    int start = 0;
+                    int length = raw.length();
+                    while (start <= length) {
+                        int end = raw.indexOf(',', start);
+                        if (end < 0) {
+                            end = length;
+                        }
+                        append(dictionary.encode(raw, start, end));
+                        start = end + 1;
+                    }
+                }
+            }
+
+            if (++rows == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[rows] = size;
+        }
+
+        DimensionColumn build() {
+            return new DimensionColumn(dictionary, Arrays.copyOf(offsets, rows + 1), Arrays.copyOf(values, size));
+        }
+
+        private void append(int id) {
+            if (id == StringDictionary.MISSING) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = id;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package domus.challenge.catalog;
+
+/**
+ * 64-bit FNV-1a over snapshot contents. Two snapshots with the same movies in the
+ * same order get the same fingerprint on every instance.
+ */
+final class Fingerprint {
+
+    static final long SEED = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private Fingerprint() {
+    }
+
+    static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= PRIME;
+        }
+        return hash;
+    }
+
+    static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, -1);
+        }
+        hash = mix(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash ^= c & 0xff;
+            hash *= PRIME;
+            hash ^= c >>> 8;
+            hash *= PRIME;
+        }
+        return hash;
+    }
+}
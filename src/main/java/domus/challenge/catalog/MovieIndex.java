@@ -0,0 +1,130 @@
+package domus.challenge.catalog;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Inverted index from lower-cased title and actor tokens to posting lists of movie
+ * ids. Tokens are kept sorted so a prefix resolves to one contiguous range.
+ */
+public final class MovieIndex {
+
+    private final String[] tokens;
+    private final int[][] postings;
+
+    private MovieIndex(String[] tokens, int[][] postings) {
+        this.tokens = tokens;
+        this.postings = postings;
+    }
+
+    public int tokenCount() {
+        return tokens.length;
+    }
+
+    /**
+     * Movies matching every whitespace-separated term of the query, where each term
+     * matches any token it is a prefix of.
+     */
+    public BitSet search(String query) {
+        BitSet result = null;
+        String normalized = query.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && !Character.isLetterOrDigit(normalized.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(normalized.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                BitSet matches = prefix(normalized.substring(start, end));
+                if (result == null) {
+                    result = matches;
+                } else {
+                    result.and(matches);
+                }
+            }
+            start = end;
+        }
+        return result == null ? new BitSet() : result;
+    }
+
+    private BitSet prefix(String term) {
+        BitSet matches = new BitSet();
+        int from = Arrays.binarySearch(tokens, term);
+        for (int i = from < 0 ? -from - 1 : from; i < tokens.length && tokens[i].startsWith(term); i++) {
+            for (int movieId : postings[i]) {
+                matches.set(movieId);
+            }
+        }
+        return matches;
+    }
+
+    static final class Builder {
+
+        private final StringDictionary dictionary = new StringDictionary();
+        private int[][] postings = new int[256][];
+        private int[] lengths = new int[256];
+
+        void add(int movieId, String text) {
+            if (text == null) {
+                return;
+            }
+            String normalized = text.toLowerCase(Locale.ROOT);
+            int length = normalized.length();
+            int start = 0;
+            while (start < length) {
+                while (start < length && !Character.isLetterOrDigit(normalized.charAt(start))) {
+                    start++;
+                }
+                int end = start;
+                while (end < length && Character.isLetterOrDigit(normalized.charAt(end))) {
+                    end++;
+                }
+                if (end > start) {
+                    post(dictionary.encode(normalized, start, end), movieId);
+                }
+                start = end;
+            }
+        }
+
+        MovieIndex build() {
+            int count = dictionary.size();
+            Integer[] order = new Integer[count];
+            for (int id = 0; id < count; id++) {
+                order[id] = id;
+            }
+            Arrays.sort(order, (a, b) -> dictionary.decode(a).compareTo(dictionary.decode(b)));
+
+            String[] tokens = new String[count];
+            int[][] sortedPostings = new int[count][];
+            for (int i = 0; i < count; i++) {
+                int id = order[i];
+                tokens[i] = dictionary.decode(id);
+                sortedPostings[i] = Arrays.copyOf(postings[id], lengths[id]);
+            }
+            return new MovieIndex(tokens, sortedPostings);
+        }
+
+        private void post(int tokenId, int movieId) {
+            if (tokenId == postings.length) {
+                postings = Arrays.copyOf(postings, tokenId * 2);
+                lengths = Arrays.copyOf(lengths, tokenId * 2);
+            }
+            int[] list = postings[tokenId];
+            int size = lengths[tokenId];
+            if (list == null) {
+                list = postings[tokenId] = new int[4];
+            } else if (list[size - 1] == movieId) {
+                return;
+            } else if (size == list.length) {
+                list = postings[tokenId] = Arrays.copyOf(list, size * 2);
+            }
+            list[size] = movieId;
+            lengths[tokenId] = size + 1;
+        }
+    }
+}
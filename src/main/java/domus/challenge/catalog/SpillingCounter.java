@@ -0,0 +1,283 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Counts dimension values within a fixed heap budget. When the estimated size of the
+ * in-memory counts exceeds {@code memoryBudget} they are written as a sorted run to a
+ * temp file and cleared; the final answer is a k-way merge of all runs. Values are
+ * counted straight from regions of the raw field, like {@link StringDictionary}, so a
+ * {@code String} is only allocated the first time a value is seen. Not thread-safe.
+ */
+@Slf4j
+public final class SpillingCounter implements AutoCloseable {
+
+    // String and byte[] headers on a 64-bit JVM, plus two key/hash/count slots at half load.
+    private static final int ENTRY_OVERHEAD = 72;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long memoryBudget;
+    private final Path directory;
+    private final List<Path> runs = new ArrayList<>();
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int size;
+    private long estimatedBytes;
+
+    /**
+     * Highest estimated size of the in-memory counts, from {@code ENTRY_OVERHEAD} plus
+     * the characters of each value, not a heap measurement.
+     */
+    @Getter
+    private long peakBytes;
+
+    @Getter
+    private long spilledBytes;
+
+    public SpillingCounter(long memoryBudget, Path directory) {
+        this.memoryBudget = memoryBudget;
+        this.directory = directory;
+    }
+
+    public void add(Dimension dimension, Movie movie) {
+        String raw = dimension.valueOf(movie);
+        if (raw == null) {
+            return;
+        }
+        if (!dimension.isMultiValued()) {
+            add(raw, 0, raw.length());
+            return;
+        }
+        int start = 0;
+        int length = raw.length();
+        while (start <= length) {
+            int end = raw.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            add(raw, start, end);
+            start = end + 1;
+        }
+    }
+
+    public void add(String value) {
+        add(value, 0, value.length());
+    }
+
+    private void add(String source, int start, int end) {
+        while (start < end && Character.isWhitespace(source.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        int hash = StringDictionary.hash(source, start, end);
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        for (; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && StringDictionary.matches(keys[slot], source, start, end)) {
+                counts[slot]++;
+                return;
+            }
+        }
+        keys[slot] = source.substring(start, end);
+        hashes[slot] = hash;
+        counts[slot] = 1;
+        size++;
+        estimatedBytes += ENTRY_OVERHEAD + 2L * (end - start);
+        peakBytes = Math.max(peakBytes, estimatedBytes);
+        if (estimatedBytes > memoryBudget) {
+            spill();
+        } else if (size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    public int getSpillCount() {
+        return runs.size();
+    }
+
+    /**
+     * Values counted strictly more than {@code threshold} times, in natural order.
+     */
+    public List<String> valuesWithMoreThan(int threshold) {
+        if (runs.isEmpty()) {
+            List<String> result = new ArrayList<>();
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null && counts[slot] > threshold) {
+                    result.add(keys[slot]);
+                }
+            }
+            result.sort(null);
+            return result;
+        }
+
+        if (size > 0) {
+            spill();
+        }
+        return merge(threshold);
+    }
+
+    @Override
+    public void close() {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException ex) {
+                log.warn("Could not delete spill file {}: {}", run, ex.getMessage());
+            }
+        }
+        runs.clear();
+        clear();
+    }
+
+    private void spill() {
+        Integer[] order = new Integer[size];
+        for (int slot = 0, i = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                order[i++] = slot;
+            }
+        }
+        Arrays.sort(order, Comparator.comparing(slot -> keys[slot]));
+        try {
+            Path run = Files.createTempFile(directory, "counts-", ".run");
+            runs.add(run);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+                out.writeInt(order.length);
+                for (int slot : order) {
+                    out.writeUTF(keys[slot]);
+                    out.writeInt(counts[slot]);
+                }
+            }
+            spilledBytes += Files.size(run);
+            log.debug("Spilled {} counts ({} estimated bytes) to {}", order.length, estimatedBytes, run);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        clear();
+    }
+
+    private void clear() {
+        keys = new String[INITIAL_CAPACITY];
+        hashes = new int[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+        size = 0;
+        estimatedBytes = 0;
+    }
+
+    private void grow() {
+        String[] newKeys = new String[keys.length * 2];
+        int[] newHashes = new int[keys.length * 2];
+        int[] newCounts = new int[keys.length * 2];
+        int mask = newKeys.length - 1;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                int slot = hashes[i] & mask;
+                while (newKeys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = keys[i];
+                newHashes[slot] = hashes[i];
+                newCounts[slot] = counts[i];
+            }
+        }
+        keys = newKeys;
+        hashes = newHashes;
+        counts = newCounts;
+    }
+
+    private List<String> merge(int threshold) {
+        PriorityQueue<Run> heap = new PriorityQueue<>(Comparator.comparing(Run::key));
+        List<String> result = new ArrayList<>();
+        try {
+            for (Path path : runs) {
+                Run run = new Run(path);
+                if (run.advance()) {
+                    heap.add(run);
+                } else {
+                    run.close();
+                }
+            }
+            while (!heap.isEmpty()) {
+                String value = heap.peek().key();
+                long total = 0;
+                while (!heap.isEmpty() && heap.peek().key().equals(value)) {
+                    Run run = heap.poll();
+                    total += run.count();
+                    if (run.advance()) {
+                        heap.add(run);
+                    } else {
+                        run.close();
+                    }
+                }
+                if (total > threshold) {
+                    result.add(value);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            heap.forEach(Run::close);
+        }
+        return result;
+    }
+
+    private static final class Run {
+        private final DataInputStream in;
+        private int remaining;
+        private String key;
+        private int count;
+
+        private Run(Path path) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            this.remaining = in.readInt();
+        }
+
+        private boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            key = in.readUTF();
+            count = in.readInt();
+            return true;
+        }
+
+        private String key() {
+            return key;
+        }
+
+        private int count() {
+            return count;
+        }
+
+        private void close() {
+            try {
+                in.close();
+            } catch (IOException ex) {
+                log.warn("Could not close spill run: {}", ex.getMessage());
+            }
+        }
+    }
+}
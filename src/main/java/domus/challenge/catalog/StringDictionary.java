@@ -0,0 +1,119 @@
+package domus.challenge.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps each distinct value of a column to a dense int id, so columns can be stored
+ * as int arrays and counted with plain array indexing. Values can be encoded straight
+ * from a region of a larger string; a new {@code String} is only allocated the first
+ * time a value is seen.
+ */
+public final class StringDictionary {
+
+    public static final int MISSING = -1;
+
+    private final List<String> values = new ArrayList<>();
+    private int[] hashes = new int[16];
+    private int[] slots = new int[16];
+
+    int encode(String value) {
+        return value == null ? MISSING : encode(value, 0, value.length());
+    }
+
+    int encode(String source, int start, int end) {
+        while (start < end && Character.isWhitespace(source.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return MISSING;
+        }
+
+        int hash = hash(source, start, end);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                int id = values.size();
+                values.add(source.substring(start, end));
+                slots[slot] = id + 1;
+                hashes[slot] = hash;
+                if (values.size() * 2 > slots.length) {
+                    grow();
+                }
+                return id;
+            }
+            if (hashes[slot] == hash && matches(values.get(entry - 1), source, start, end)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    public int idOf(String value) {
+        if (value == null) {
+            return MISSING;
+        }
+        int hash = hash(value, 0, value.length());
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && values.get(slots[slot] - 1).equals(value)) {
+                return slots[slot] - 1;
+            }
+        }
+        return MISSING;
+    }
+
+    public int idOfIgnoreCase(String value) {
+        int id = idOf(value);
+        if (id != MISSING || value == null) {
+            return id;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i).equalsIgnoreCase(value)) {
+                return i;
+            }
+        }
+        return MISSING;
+    }
+
+    public String decode(int id) {
+        return values.get(id);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private void grow() {
+        int[] newSlots = new int[slots.length * 2];
+        int[] newHashes = new int[slots.length * 2];
+        int mask = newSlots.length - 1;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != 0) {
+                int slot = hashes[i] & mask;
+                while (newSlots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newSlots[slot] = slots[i];
+                newHashes[slot] = hashes[i];
+            }
+        }
+        slots = newSlots;
+        hashes = newHashes;
+    }
+
+    static int hash(String source, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    static boolean matches(String value, String source, int start, int end) {
+        return value.length() == end - start && source.regionMatches(start, value, 0, value.length());
+    }
+}
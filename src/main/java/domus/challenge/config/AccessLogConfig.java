@@ -0,0 +1,15 @@
+package domus.challenge.config;
+
+import domus.challenge.accesslog.AccessLog;
+import domus.challenge.accesslog.AccessLogWebFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AccessLogConfig {
+
+    @Bean
+    public AccessLogWebFilter accessLogWebFilter(AccessLog accessLog) {
+        return new AccessLogWebFilter(accessLog);
+    }
+}
@@ -1,8 +1,16 @@
 package domus.challenge.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import domus.challenge.cache.OffHeapCache;
+import domus.challenge.model.request.DirectorQuery;
 import domus.challenge.model.response.DirectorResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,12 +19,43 @@ import java.time.Duration;
 @Configuration
 public class CacheConfig {
 
+    @Value("${cache.l1.max-entries:100}")
+    private long l1MaxEntries;
+
+    @Value("${cache.l2.max-bytes:67108864}")
+    private long l2MaxBytes;
+
+    // Cached results never outlive the snapshot they were computed from by more than one
+    // refresh interval, even if an invalidation is missed.
+    @Value("${catalog.refresh-interval:180000}")
+    private long refreshIntervalMillis;
+
     @Bean
-    public Cache<Integer, DirectorResponse> directorsCache() {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofMinutes(3))
-                .maximumSize(100)
+    public Cache<DirectorQuery, DirectorResponse> directorsCache(MeterRegistry meterRegistry) {
+        Cache<DirectorQuery, DirectorResponse> cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshIntervalMillis))
+                .maximumSize(l1MaxEntries)
+                .recordStats()
                 .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "directorsCache");
+        return cache;
     }
-}
 
+    @Bean
+    public OffHeapCache<DirectorQuery, DirectorResponse> directorsOffHeapCache(ObjectMapper objectMapper,
+                                                                               MeterRegistry meterRegistry) {
+        OffHeapCache<DirectorQuery, DirectorResponse> cache = new OffHeapCache<>(l2MaxBytes,
+                Duration.ofMillis(refreshIntervalMillis), PooledByteBufAllocator.DEFAULT, objectMapper, DirectorResponse.class);
+        Gauge.builder("cache.l2.hit.ratio", cache, OffHeapCache::hitRatio)
+                .tag("cache", "directorsCache")
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.offheap.bytes", cache, OffHeapCache::offHeapBytes)
+                .tag("cache", "directorsCache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.size", cache, OffHeapCache::estimatedSize)
+                .tag("cache", "directorsCache")
+                .register(meterRegistry);
+        return cache;
+    }
+}
@@ -2,6 +2,7 @@ package domus.challenge.config;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,11 +11,17 @@ import java.time.Duration;
 @Configuration
 public class RateLimiterConfigClass {
 
+    @Value("${rate-limiter.limit-for-period:3}")
+    private int limitForPeriod;
+
+    @Value("${rate-limiter.refresh-period:60000}")
+    private long refreshPeriodMillis;
+
     @Bean
     public RateLimiter customApiRateLimiter() {
         RateLimiterConfig config = RateLimiterConfig.custom()
-                .limitForPeriod(3)
-                .limitRefreshPeriod(Duration.ofSeconds(60))
+                .limitForPeriod(limitForPeriod)
+                .limitRefreshPeriod(Duration.ofMillis(refreshPeriodMillis))
                 .timeoutDuration(Duration.ZERO)
                 .build();
         return RateLimiter.of("customApiRateLimiter", config);
@@ -1,5 +1,6 @@
 package domus.challenge.config;
 
+import domus.challenge.jfr.ResponseBodyStats;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -7,7 +8,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
@@ -23,6 +26,9 @@ public class WebClientConfig {
     @Value("${external-api.read-timeout:10000}")
     private int readTimeout;
 
+    @Value("${external-api.max-in-memory-size:16777216}")
+    private int maxInMemorySize;
+
     @Bean
     public WebClient webClient() {
         ConnectionProvider provider = ConnectionProvider.builder("customWebClient")
@@ -41,6 +47,21 @@ public class WebClientConfig {
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .filter(responseBodyStats())
                 .build();
     }
+
+    private static ExchangeFilterFunction responseBodyStats() {
+        return (request, next) -> Mono.deferContextual(ctx -> {
+            ResponseBodyStats stats = ctx.getOrDefault(ResponseBodyStats.CONTEXT_KEY, null);
+            if (stats == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(request)
+                    .map(response -> response.mutate()
+                            .body(body -> body.doOnNext(buffer -> stats.record(buffer.readableByteCount())))
+                            .build());
+        });
+    }
 }
@@ -0,0 +1,93 @@
+package domus.challenge.controller;
+
+import domus.challenge.catalog.Dimension;
+import domus.challenge.exception.TooManyRequestsException;
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.model.response.ActorResponse;
+import domus.challenge.model.response.GenreResponse;
+import domus.challenge.model.response.WriterResponse;
+import domus.challenge.service.AggregationService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Tag(name = "Aggregations", description = "Count-above-threshold queries over actors, writers and genres")
+public class AggregationController {
+
+    private final AggregationService aggregationService;
+    private final RateLimiter rateLimiter;
+
+    public AggregationController(AggregationService aggregationService,
+                                 RateLimiter rateLimiter) {
+        this.aggregationService = aggregationService;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Operation(summary = "Get Actors by Movie Threshold",
+            description = "Retrieves actors who appear in more movies than the specified threshold, sorted alphabetically.")
+    @GetMapping("/actors")
+    public Mono<ActorResponse> getActors(
+            @Parameter(description = "Actors with more than this many movies are returned", example = "2")
+            @RequestParam Integer threshold,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String rated) {
+        return aggregate(Dimension.ACTOR, threshold, filter(yearFrom, yearTo, genre, rated))
+                .map(actors -> ActorResponse.builder().actors(actors).build());
+    }
+
+    @Operation(summary = "Get Writers by Movie Threshold",
+            description = "Retrieves writers credited on more movies than the specified threshold, sorted alphabetically.")
+    @GetMapping("/writers")
+    public Mono<WriterResponse> getWriters(
+            @Parameter(description = "Writers with more than this many movies are returned", example = "2")
+            @RequestParam Integer threshold,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String rated) {
+        return aggregate(Dimension.WRITER, threshold, filter(yearFrom, yearTo, genre, rated))
+                .map(writers -> WriterResponse.builder().writers(writers).build());
+    }
+
+    @Operation(summary = "Get Genres by Movie Threshold",
+            description = "Retrieves genres with more movies than the specified threshold, sorted alphabetically.")
+    @GetMapping("/genres")
+    public Mono<GenreResponse> getGenres(
+            @Parameter(description = "Genres with more than this many movies are returned", example = "10")
+            @RequestParam Integer threshold,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) String rated) {
+        return aggregate(Dimension.GENRE, threshold, filter(yearFrom, yearTo, null, rated))
+                .map(genres -> GenreResponse.builder().genres(genres).build());
+    }
+
+    private Mono<List<String>> aggregate(Dimension dimension, Integer threshold, CatalogFilter filter) {
+        return aggregationService.getValuesAboveThreshold(dimension, threshold, filter)
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .onErrorMap(RequestNotPermitted.class,
+                        ex -> new TooManyRequestsException(
+                                "Rate limit exceeded. Try again later"));
+    }
+
+    private static CatalogFilter filter(Integer yearFrom, Integer yearTo, String genre, String rated) {
+        return CatalogFilter.builder()
+                .yearFrom(yearFrom)
+                .yearTo(yearTo)
+                .genre(genre)
+                .rated(rated)
+                .build();
+    }
+}
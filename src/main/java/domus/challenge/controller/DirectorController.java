@@ -1,37 +1,48 @@
 package domus.challenge.controller;
 
+import domus.challenge.catalog.CatalogSnapshot;
 import domus.challenge.exception.TooManyRequestsException;
+import domus.challenge.model.request.CatalogFilter;
 import domus.challenge.model.response.DirectorResponse;
+import domus.challenge.service.CatalogService;
 import domus.challenge.service.DirectorService;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-@Slf4j
+import java.time.Duration;
+import java.time.Instant;
+
 @RestController
 @RequestMapping("/directors")
 public class DirectorController {
 
     private final DirectorService directorService;
+    private final CatalogService catalogService;
     private final RateLimiter rateLimiter;
 
     public DirectorController(DirectorService directorService,
+                              CatalogService catalogService,
                               RateLimiter rateLimiter) {
         this.directorService = directorService;
+        this.catalogService = catalogService;
         this.rateLimiter = rateLimiter;
     }
 
@@ -39,7 +50,8 @@ public class DirectorController {
     @Operation(
             summary = "Get Directors by Movie Threshold",
             description = "Retrieves a list of directors who have directed more movies " +
-                    "than the specified threshold. Results are sorted alphabetically."
+                    "than the specified threshold. Results are sorted alphabetically. " +
+                    "Optional filters restrict which movies are counted."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -47,6 +59,10 @@ public class DirectorController {
                     description = "Successfully retrieved directors",
                     content = @Content(schema = @Schema(implementation = DirectorResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid threshold value (non-numeric or invalid format)"
@@ -56,21 +72,86 @@ public class DirectorController {
                     description = "Internal server error occurred"
             )
     })
-    @Parameter(
-            name = "threshold",
-            description = "Minimum number of movies. Directors with more than this count are returned.",
-            required = true,
-            example = "4"
-    )
+    @Parameters({
+            @Parameter(
+                    name = "threshold",
+                    description = "Minimum number of movies. Directors with more than this count are returned.",
+                    required = true,
+                    example = "4"
+            ),
+            @Parameter(name = "yearFrom", description = "Only count movies released in or after this year", example = "2015"),
+            @Parameter(name = "yearTo", description = "Only count movies released in or before this year", example = "2020"),
+            @Parameter(name = "genre", description = "Only count movies with this genre", example = "Drama"),
+            @Parameter(name = "rated", description = "Only count movies with this rating", example = "R")
+    })
     @GetMapping
-    public Mono<DirectorResponse> getDirectors(@RequestParam Integer threshold) {
-        log.info("Received request for directors with threshold: {}", threshold);
+    public Mono<ResponseEntity<DirectorResponse>> getDirectors(@RequestParam Integer threshold,
+                                                               @RequestParam(required = false) Integer yearFrom,
+                                                               @RequestParam(required = false) Integer yearTo,
+                                                               @RequestParam(required = false) String genre,
+                                                               @RequestParam(required = false) String rated,
+                                                               @Parameter(hidden = true) ServerWebExchange exchange) {
+        CatalogFilter filter = CatalogFilter.builder()
+                .yearFrom(yearFrom)
+                .yearTo(yearTo)
+                .genre(genre)
+                .rated(rated)
+                .build();
+
+        CatalogSnapshot snapshot = freshSnapshot();
+        // Compared by hand: checkNotModified also writes the ETag header, which must stay
+        // off responses whose body turns out to come from a different snapshot.
+        if (snapshot != null && notModified(exchange, etag(snapshot, threshold, filter))) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag(snapshot, threshold, filter))
+                    .cacheControl(cacheControl(snapshot))
+                    .build());
+        }
+
+        Mono<DirectorResponse> response = filter.isEmpty()
+                ? directorService.getDirectorsByThreshold(threshold)
+                : directorService.getDirectorsByThreshold(threshold, filter);
 
-        return directorService.getDirectorsByThreshold(threshold)
+        return response
                 .transformDeferred(RateLimiterOperator.of(rateLimiter))
                 .onErrorMap(RequestNotPermitted.class,
                         ex -> new TooManyRequestsException(
-                                "Rate limit exceeded. Try again later"));
+                                "Rate limit exceeded. Try again later"))
+                .map(body -> {
+                    CatalogSnapshot current = catalogService.getCurrentSnapshot();
+                    if (current == null || (snapshot != null && current != snapshot)) {
+                        return ResponseEntity.ok(body);
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(etag(current, threshold, filter))
+                            .cacheControl(cacheControl(current))
+                            .body(body);
+                });
+    }
+
+    private CatalogSnapshot freshSnapshot() {
+        CatalogSnapshot snapshot = catalogService.getCurrentSnapshot();
+        return snapshot != null && catalogService.getExpiresAt(snapshot).isAfter(Instant.now()) ? snapshot : null;
+    }
+
+    private static boolean notModified(ServerWebExchange exchange, String etag) {
+        for (String candidate : exchange.getRequest().getHeaders().getIfNoneMatch()) {
+            String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if (tag.equals("*") || tag.equals("\"" + etag + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(CatalogSnapshot snapshot, int threshold, CatalogFilter filter) {
+        String tag = Long.toHexString(snapshot.getVersion()) + "-" + threshold;
+        return filter.isEmpty() ? tag : tag + "-" + Integer.toHexString(filter.hashCode());
+    }
+
+    private CacheControl cacheControl(CatalogSnapshot snapshot) {
+        Duration remaining = Duration.between(Instant.now(), catalogService.getExpiresAt(snapshot));
+        return CacheControl.maxAge(remaining.isNegative() ? Duration.ZERO : remaining).cachePublic();
     }
 
 
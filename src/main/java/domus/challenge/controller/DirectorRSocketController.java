@@ -0,0 +1,76 @@
+package domus.challenge.controller;
+
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.model.request.DirectorsRequest;
+import domus.challenge.model.response.DirectorResponse;
+import domus.challenge.model.response.ThresholdDirectorResponse;
+import domus.challenge.service.DirectorService;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Binary (CBOR) access to the director queries for internal callers. One connection
+ * multiplexes any number of requests, so there is no per-call header parsing; the
+ * HTTP rate limiter does not apply here, cold computations still go through admission.
+ */
+@Controller
+@MessageMapping("directors")
+public class DirectorRSocketController {
+
+    private final DirectorService directorService;
+
+    public DirectorRSocketController(DirectorService directorService) {
+        this.directorService = directorService;
+    }
+
+    /**
+     * Request-response: same answer as {@code GET /api/directors}.
+     */
+    @MessageMapping("")
+    public Mono<DirectorResponse> getDirectors(DirectorsRequest request) {
+        if (request.getThreshold() == null) {
+            return Mono.error(new IllegalArgumentException("threshold is required"));
+        }
+        return query(request.getThreshold(), request.toFilter());
+    }
+
+    /**
+     * Request-stream: one answer per entry of {@code thresholds}, in request order.
+     */
+    @MessageMapping("stream")
+    public Flux<ThresholdDirectorResponse> streamDirectors(DirectorsRequest request) {
+        if (request.getThresholds() == null || request.getThresholds().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("thresholds is required"));
+        }
+        CatalogFilter filter = request.toFilter();
+        return Flux.fromIterable(request.getThresholds())
+                .concatMap(threshold -> tagged(threshold, filter));
+    }
+
+    /**
+     * Request-channel: answers every incoming query as soon as it is ready, tagged
+     * with its threshold so the caller can correlate out-of-order replies.
+     */
+    @MessageMapping("channel")
+    public Flux<ThresholdDirectorResponse> channelDirectors(Flux<DirectorsRequest> requests) {
+        return requests
+                .filter(request -> request.getThreshold() != null)
+                .flatMap(request -> tagged(request.getThreshold(), request.toFilter()));
+    }
+
+    private Mono<ThresholdDirectorResponse> tagged(int threshold, CatalogFilter filter) {
+        return query(threshold, filter)
+                .map(response -> ThresholdDirectorResponse.builder()
+                        .threshold(threshold)
+                        .directors(response.getDirectors())
+                        .build());
+    }
+
+    private Mono<DirectorResponse> query(int threshold, CatalogFilter filter) {
+        return filter.isEmpty()
+                ? directorService.getDirectorsByThreshold(threshold)
+                : directorService.getDirectorsByThreshold(threshold, filter);
+    }
+}
@@ -0,0 +1,51 @@
+package domus.challenge.controller;
+
+import domus.challenge.exception.TooManyRequestsException;
+import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.service.MovieSearchService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/movies")
+public class MovieController {
+
+    private final MovieSearchService movieSearchService;
+    private final RateLimiter rateLimiter;
+
+    public MovieController(MovieSearchService movieSearchService,
+                           RateLimiter rateLimiter) {
+        this.movieSearchService = movieSearchService;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Tag(name = "Movies", description = "Search over the cached movie catalog")
+    @Operation(
+            summary = "Search Movies",
+            description = "Finds movies whose title or actors contain every query term as a word prefix. " +
+                    "Results follow catalog order and use the same paging format as the upstream API."
+    )
+    @GetMapping("/search")
+    public Mono<MovieApiResponse> search(
+            @Parameter(description = "Search terms, matched as prefixes of title and actor words", example = "scor")
+            @RequestParam String q,
+            @Parameter(description = "Page number, starting at 1", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "Movies per page (max 100)", example = "10")
+            @RequestParam(name = "per_page", defaultValue = "10") int perPage) {
+        return movieSearchService.search(q, page, perPage)
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .onErrorMap(RequestNotPermitted.class,
+                        ex -> new TooManyRequestsException(
+                                "Rate limit exceeded. Try again later"));
+    }
+}
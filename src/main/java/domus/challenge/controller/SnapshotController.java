@@ -0,0 +1,96 @@
+package domus.challenge.controller;
+
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.catalog.CatalogSnapshotCodec;
+import domus.challenge.service.CatalogService;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Publishes the current catalog snapshot to peer instances in the compact binary
+ * form of {@link CatalogSnapshotCodec}. Never triggers a crawl itself.
+ */
+@Slf4j
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "peer-sync.enabled", havingValue = "true")
+public class SnapshotController {
+
+    public static final String PATH = "/internal/snapshot";
+    public static final String BUILT_AT_HEADER = "X-Snapshot-Built-At";
+
+    private final CatalogService catalogService;
+    private volatile Encoded encoded;
+
+    public SnapshotController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    public static String etag(CatalogSnapshot snapshot) {
+        return "\"" + Long.toHexString(snapshot.getVersion()) + "\"";
+    }
+
+    @GetMapping(value = PATH, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public Mono<ResponseEntity<byte[]>> getSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        CatalogSnapshot snapshot = catalogService.getCurrentSnapshot();
+        if (snapshot == null) {
+            return Mono.just(ResponseEntity.noContent().build());
+        }
+
+        String etag = etag(snapshot);
+        if (etag.equals(ifNoneMatch)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(BUILT_AT_HEADER, snapshot.getBuiltAt().toString())
+                    .build());
+        }
+
+        return Mono.fromCallable(() -> encode(snapshot))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(payload -> ResponseEntity.ok()
+                        .eTag(etag)
+                        .header(BUILT_AT_HEADER, snapshot.getBuiltAt().toString())
+                        .body(payload));
+    }
+
+    private byte[] encode(CatalogSnapshot snapshot) {
+        Encoded current = encoded;
+        if (current != null && current.snapshot == snapshot) {
+            return current.payload;
+        }
+        return encodeOnce(snapshot);
+    }
+
+    private synchronized byte[] encodeOnce(CatalogSnapshot snapshot) {
+        Encoded current = encoded;
+        if (current == null || current.snapshot != snapshot) {
+            current = new Encoded(snapshot, CatalogSnapshotCodec.encode(snapshot));
+            encoded = current;
+            log.info("Encoded catalog snapshot {} for peers ({} bytes)",
+                    Long.toHexString(snapshot.getVersion()), current.payload.length);
+        }
+        return current.payload;
+    }
+
+    private static final class Encoded {
+        private final CatalogSnapshot snapshot;
+        private final byte[] payload;
+
+        private Encoded(CatalogSnapshot snapshot, byte[] payload) {
+            this.snapshot = snapshot;
+            this.payload = payload;
+        }
+    }
+}
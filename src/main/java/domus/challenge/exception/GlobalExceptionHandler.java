@@ -2,6 +2,7 @@ package domus.challenge.exception;
 
 import domus.challenge.model.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -61,6 +62,23 @@ public class GlobalExceptionHandler {
                 .body(error));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleServiceUnavailable(ServiceUnavailableException ex) {
+
+        log.warn("Load shed. Returning 503: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .build();
+
+        return Mono.just(ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error));
+    }
+
 
     @ExceptionHandler(Exception.class)
     public Mono<ResponseEntity<ErrorResponse>> handleGeneralException(Exception ex) {
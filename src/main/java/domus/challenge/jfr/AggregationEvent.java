@@ -0,0 +1,43 @@
+package domus.challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("domus.challenge.Aggregation")
+@Label("Aggregation")
+@Category({"Challenge", "Catalog"})
+@Description("Count-above-threshold query over one catalog dimension")
+@StackTrace(false)
+public class AggregationEvent extends Event {
+
+    @Label("Snapshot Version")
+    public long snapshotVersion;
+
+    @Label("Dimension")
+    public String dimension;
+
+    @Label("Threshold")
+    public int threshold;
+
+    @Label("Filtered")
+    public boolean filtered;
+
+    @Label("Movies")
+    @Description("Movies counted after filters")
+    public int movies;
+
+    @Label("Distinct Values")
+    @Description("Distinct values of the dimension in the snapshot")
+    public int distinctValues;
+
+    @Label("Results")
+    public int results;
+
+    @Label("Spilled Runs")
+    @Description("Sorted runs written to disk by the bounded-memory mode")
+    public int spilledRuns;
+}
@@ -0,0 +1,31 @@
+package domus.challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("domus.challenge.CatalogBuild")
+@Label("Catalog Build")
+@Category({"Challenge", "Catalog"})
+@Description("Full crawl of the upstream catalog into a new snapshot")
+@StackTrace(false)
+public class CatalogBuildEvent extends Event {
+
+    @Label("Crawl Id")
+    public long crawlId;
+
+    @Label("Pages")
+    public int pages;
+
+    @Label("Movies")
+    public int movies;
+
+    @Label("Directors")
+    public int directors;
+
+    @Label("Failed")
+    public boolean failed;
+}
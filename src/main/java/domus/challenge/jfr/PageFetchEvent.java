@@ -0,0 +1,43 @@
+package domus.challenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("domus.challenge.PageFetch")
+@Label("Page Fetch")
+@Category({"Challenge", "Upstream"})
+@Description("Fetch and decode of one upstream movies page, including retries")
+@StackTrace(false)
+public class PageFetchEvent extends Event {
+
+    @Label("Crawl Id")
+    @Description("Catalog crawl this page belongs to, 0 when fetched outside a crawl")
+    public long crawlId;
+
+    @Label("Page")
+    public int page;
+
+    @Label("Movies")
+    public int movies;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Decode Time")
+    @Description("Time between the last response chunk and the decoded page")
+    @Timespan(Timespan.NANOSECONDS)
+    public long decodeTime;
+
+    @Label("Retries")
+    public int retries;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,27 @@
+package domus.challenge.jfr;
+
+/**
+ * Per-request byte counter carried in the Reactor context, so the WebClient body
+ * filter can report response size and timing back to the caller's JFR event.
+ */
+public final class ResponseBodyStats {
+
+    public static final String CONTEXT_KEY = ResponseBodyStats.class.getName();
+    public static final String CRAWL_ID_KEY = "domus.challenge.crawlId";
+
+    private volatile long bytes;
+    private volatile long lastChunkNanos;
+
+    public void record(int chunkBytes) {
+        bytes += chunkBytes;
+        lastChunkNanos = System.nanoTime();
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getLastChunkNanos() {
+        return lastChunkNanos;
+    }
+}
@@ -0,0 +1,64 @@
+package domus.challenge.model.request;
+
+import domus.challenge.model.dto.Movie;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CatalogFilter {
+
+    public static final CatalogFilter NONE = CatalogFilter.builder().build();
+
+    Integer yearFrom;
+    Integer yearTo;
+    String genre;
+    String rated;
+
+    public boolean isEmpty() {
+        return yearFrom == null && yearTo == null && genre == null && rated == null;
+    }
+
+    /**
+     * Row-at-a-time equivalent of {@code CatalogSnapshot.select}, for pipelines that
+     * never build a snapshot.
+     */
+    public boolean matches(Movie movie) {
+        if (yearFrom != null && movie.getYear() < yearFrom) {
+            return false;
+        }
+        if (yearTo != null && movie.getYear() > yearTo) {
+            return false;
+        }
+        if (rated != null && (movie.getRated() == null || !movie.getRated().trim().equalsIgnoreCase(rated.trim()))) {
+            return false;
+        }
+        return genre == null || hasGenre(movie.getGenre(), genre.trim());
+    }
+
+    private static boolean hasGenre(String genres, String wanted) {
+        if (genres == null) {
+            return false;
+        }
+        int length = genres.length();
+        for (int start = 0; start <= length; ) {
+            int end = genres.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int from = start;
+            int to = end;
+            while (from < to && Character.isWhitespace(genres.charAt(from))) {
+                from++;
+            }
+            while (to > from && Character.isWhitespace(genres.charAt(to - 1))) {
+                to--;
+            }
+            if (to - from == wanted.length() && genres.regionMatches(true, from, wanted, 0, wanted.length())) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+}
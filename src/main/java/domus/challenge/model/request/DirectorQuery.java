@@ -0,0 +1,13 @@
+package domus.challenge.model.request;
+
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class DirectorQuery {
+    int threshold;
+    CatalogFilter filter;
+
+    public static DirectorQuery of(int threshold) {
+        return of(threshold, CatalogFilter.NONE);
+    }
+}
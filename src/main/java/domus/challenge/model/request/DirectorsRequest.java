@@ -0,0 +1,32 @@
+package domus.challenge.model.request;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Message body of the RSocket director routes. {@code thresholds} is only read by the
+ * request-stream route; every other route uses {@code threshold}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectorsRequest {
+    private Integer threshold;
+    private List<Integer> thresholds;
+    private Integer yearFrom;
+    private Integer yearTo;
+    private String genre;
+    private String rated;
+
+    public CatalogFilter toFilter() {
+        return CatalogFilter.builder()
+                .yearFrom(yearFrom)
+                .yearTo(yearTo)
+                .genre(genre)
+                .rated(rated)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package domus.challenge.model.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenreResponse {
+    private List<String> genres;
+}
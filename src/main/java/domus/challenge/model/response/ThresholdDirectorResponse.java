@@ -0,0 +1,15 @@
+package domus.challenge.model.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThresholdDirectorResponse {
+    private int threshold;
+    private List<String> directors;
+}
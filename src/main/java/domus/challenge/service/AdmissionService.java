@@ -0,0 +1,7 @@
+package domus.challenge.service;
+
+import reactor.core.publisher.Mono;
+
+public interface AdmissionService {
+    <T> Mono<T> admit(Mono<T> computation);
+}
@@ -0,0 +1,11 @@
+package domus.challenge.service;
+
+import domus.challenge.catalog.Dimension;
+import domus.challenge.model.request.CatalogFilter;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface AggregationService {
+    Mono<List<String>> getValuesAboveThreshold(Dimension dimension, Integer threshold, CatalogFilter filter);
+}
@@ -0,0 +1,18 @@
+package domus.challenge.service;
+
+import domus.challenge.catalog.CatalogSnapshot;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface CatalogService {
+    Mono<CatalogSnapshot> getSnapshot();
+
+    Mono<CatalogSnapshot> getLatestSnapshot();
+
+    CatalogSnapshot getCurrentSnapshot();
+
+    Instant getExpiresAt(CatalogSnapshot snapshot);
+
+    void invalidate();
+}
@@ -1,9 +1,12 @@
 package domus.challenge.service;
 
 
+import domus.challenge.model.request.CatalogFilter;
 import domus.challenge.model.response.DirectorResponse;
 import reactor.core.publisher.Mono;
 
 public interface DirectorService {
     Mono<DirectorResponse> getDirectorsByThreshold(Integer threshold);
+
+    Mono<DirectorResponse> getDirectorsByThreshold(Integer threshold, CatalogFilter filter);
 }
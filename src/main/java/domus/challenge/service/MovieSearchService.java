@@ -0,0 +1,8 @@
+package domus.challenge.service;
+
+import domus.challenge.model.dto.MovieApiResponse;
+import reactor.core.publisher.Mono;
+
+public interface MovieSearchService {
+    Mono<MovieApiResponse> search(String query, int page, int perPage);
+}
@@ -0,0 +1,8 @@
+package domus.challenge.service;
+
+import domus.challenge.catalog.CatalogSnapshot;
+import reactor.core.publisher.Mono;
+
+public interface PeerSnapshotClient {
+    Mono<CatalogSnapshot> fetchNewerThan(CatalogSnapshot current);
+}
@@ -0,0 +1,189 @@
+package domus.challenge.service.imp;
+
+import domus.challenge.exception.ServiceUnavailableException;
+import domus.challenge.service.AdmissionService;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds how many cold computations run at once. Excess callers wait in a bounded
+ * FIFO queue; waiters are shed CoDel-style once queue time stays above the target
+ * for a whole interval, or unconditionally after the maximum queue time.
+ */
+@Slf4j
+@Service
+public class AdmissionServiceImp implements AdmissionService {
+
+    @Value("${admission.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${admission.max-queue:32}")
+    private int maxQueue;
+
+    @Value("${admission.queue-target:100}")
+    private long queueTargetMillis;
+
+    @Value("${admission.queue-interval:500}")
+    private long queueIntervalMillis;
+
+    @Value("${admission.max-queue-time:5000}")
+    private long maxQueueTimeMillis;
+
+    @Value("${admission.retry-after:5}")
+    private long retryAfterSeconds;
+
+    private Ticker ticker = Ticker.systemTicker();
+
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private int inFlight;
+    private boolean aboveTarget;
+    private long dropAfterNanos;
+
+    private final Counter shedQueueFull;
+    private final Counter shedQueueTime;
+
+    public AdmissionServiceImp(MeterRegistry meterRegistry) {
+        Gauge.builder("admission.queue.depth", this, AdmissionServiceImp::queueDepth)
+                .description("Cold computations waiting for admission")
+                .register(meterRegistry);
+        Gauge.builder("admission.in.flight", this, AdmissionServiceImp::inFlight)
+                .description("Cold computations currently running")
+                .register(meterRegistry);
+        this.shedQueueFull = Counter.builder("admission.shed")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.shedQueueTime = Counter.builder("admission.shed")
+                .tag("reason", "queue_time")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> admit(Mono<T> computation) {
+        return Mono.defer(() -> {
+            Waiter waiter;
+            synchronized (this) {
+                if (inFlight < maxConcurrent) {
+                    inFlight++;
+                    return run(computation);
+                }
+                if (queue.size() >= maxQueue) {
+                    shedQueueFull.increment();
+                    return Mono.error(overloaded("Too many pending requests. Try again later"));
+                }
+                waiter = new Waiter(ticker.read());
+                queue.addLast(waiter);
+            }
+
+            return waiter.sink.asMono()
+                    .timeout(Duration.ofMillis(maxQueueTimeMillis), Mono.defer(() -> abandon(waiter, true)))
+                    .doOnCancel(() -> abandon(waiter, false))
+                    .then(Mono.defer(() -> run(computation)));
+        });
+    }
+
+    private <T> Mono<T> run(Mono<T> computation) {
+        return computation.doFinally(signal -> release());
+    }
+
+    private void release() {
+        List<Waiter> dropped = new ArrayList<>();
+        Waiter granted = null;
+
+        synchronized (this) {
+            long now = ticker.read();
+            Waiter next;
+            while ((next = queue.pollFirst()) != null) {
+                if (shouldDrop(next, now)) {
+                    shedQueueTime.increment();
+                    dropped.add(next);
+                    continue;
+                }
+                next.granted = true;
+                granted = next;
+                break;
+            }
+            if (granted == null) {
+                inFlight--;
+            }
+        }
+
+        dropped.forEach(waiter -> waiter.sink.tryEmitError(
+                overloaded("Request waited too long for admission. Try again later")));
+        if (granted != null) {
+            granted.sink.tryEmitEmpty();
+        }
+    }
+
+    private Mono<Void> abandon(Waiter waiter, boolean timedOut) {
+        boolean permitHeld;
+        synchronized (this) {
+            if (waiter.abandoned) {
+                return Mono.empty();
+            }
+            waiter.abandoned = true;
+            permitHeld = waiter.granted;
+            if (!permitHeld) {
+                queue.remove(waiter);
+            }
+        }
+        if (permitHeld) {
+            release();
+        }
+        if (timedOut) {
+            shedQueueTime.increment();
+            return Mono.error(overloaded("Request waited too long for admission. Try again later"));
+        }
+        return Mono.empty();
+    }
+
+    private boolean shouldDrop(Waiter waiter, long now) {
+        long sojourn = now - waiter.enqueuedAtNanos;
+        if (sojourn < TimeUnit.MILLISECONDS.toNanos(queueTargetMillis)) {
+            aboveTarget = false;
+            return false;
+        }
+        if (!aboveTarget) {
+            aboveTarget = true;
+            dropAfterNanos = now + TimeUnit.MILLISECONDS.toNanos(queueIntervalMillis);
+            return false;
+        }
+        return now - dropAfterNanos >= 0;
+    }
+
+    private ServiceUnavailableException overloaded(String message) {
+        log.warn("Shedding cold computation: {}", message);
+        return new ServiceUnavailableException(message, retryAfterSeconds);
+    }
+
+    private synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    private synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private static final class Waiter {
+        private final long enqueuedAtNanos;
+        private final Sinks.Empty<Void> sink = Sinks.empty();
+        private boolean granted;
+        private boolean abandoned;
+
+        private Waiter(long enqueuedAtNanos) {
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package domus.challenge.service.imp;
+
+import domus.challenge.catalog.Dimension;
+import domus.challenge.jfr.AggregationEvent;
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.service.AggregationService;
+import domus.challenge.service.CatalogService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.BitSet;
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "aggregation.mode", havingValue = "snapshot", matchIfMissing = true)
+public class AggregationServiceImp implements AggregationService {
+
+    private final CatalogService catalogService;
+
+    public AggregationServiceImp(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    public Mono<List<String>> getValuesAboveThreshold(Dimension dimension, Integer threshold, CatalogFilter filter) {
+
+        if (threshold < 0) {
+            return Mono.just(List.of());
+        }
+
+        return catalogService.getSnapshot()
+                .map(snapshot -> {
+                    AggregationEvent event = new AggregationEvent();
+                    event.begin();
+                    BitSet rows = snapshot.select(filter);
+                    List<String> values = snapshot.valuesWithMoreThan(dimension, threshold, rows);
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.snapshotVersion = snapshot.getVersion();
+                        event.dimension = dimension.name();
+                        event.threshold = threshold;
+                        event.filtered = filter != null && !filter.isEmpty();
+                        event.movies = rows.cardinality();
+                        event.distinctValues = snapshot.distinctValues(dimension);
+                        event.results = values.size();
+                        event.commit();
+                    }
+                    return values;
+                });
+    }
+}
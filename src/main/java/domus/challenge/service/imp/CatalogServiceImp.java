@@ -0,0 +1,142 @@
+package domus.challenge.service.imp;
+
+import domus.challenge.catalog.CatalogRefreshedEvent;
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.catalog.CatalogSnapshotBuilder;
+import domus.challenge.catalog.Dimension;
+import domus.challenge.jfr.CatalogBuildEvent;
+import domus.challenge.jfr.ResponseBodyStats;
+import domus.challenge.service.AdmissionService;
+import domus.challenge.service.CatalogService;
+import domus.challenge.service.MovieApiClient;
+import domus.challenge.service.PeerSnapshotClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class CatalogServiceImp implements CatalogService {
+
+    @Value("${external-api.max-concurrent-requests:5}")
+    private int maxConcurrentRequests;
+
+    @Value("${catalog.refresh-interval:180000}")
+    private long refreshIntervalMillis;
+
+    private final MovieApiClient movieApiClient;
+    private final AdmissionService admissionService;
+    private final PeerSnapshotClient peerSnapshotClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicLong crawls = new AtomicLong();
+
+    private volatile CatalogSnapshot current;
+    private Mono<CatalogSnapshot> pending;
+
+    public CatalogServiceImp(MovieApiClient movieApiClient,
+                             AdmissionService admissionService,
+                             PeerSnapshotClient peerSnapshotClient,
+                             ApplicationEventPublisher eventPublisher) {
+        this.movieApiClient = movieApiClient;
+        this.admissionService = admissionService;
+        this.peerSnapshotClient = peerSnapshotClient;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Mono<CatalogSnapshot> getSnapshot() {
+        CatalogSnapshot snapshot = current;
+        if (snapshot != null && !isExpired(snapshot)) {
+            return Mono.just(snapshot);
+        }
+        return Mono.defer(this::refresh);
+    }
+
+    /**
+     * Returns the published snapshot even when it has expired, refreshing it in the
+     * background, so callers only wait when nothing has been loaded yet.
+     */
+    public Mono<CatalogSnapshot> getLatestSnapshot() {
+        CatalogSnapshot snapshot = current;
+        if (snapshot == null) {
+            return Mono.defer(this::refresh);
+        }
+        if (isExpired(snapshot)) {
+            refresh().subscribe(refreshed -> { }, ex -> log.warn("Background catalog refresh failed: {}", ex.getMessage()));
+        }
+        return Mono.just(snapshot);
+    }
+
+    public CatalogSnapshot getCurrentSnapshot() {
+        return current;
+    }
+
+    public Instant getExpiresAt(CatalogSnapshot snapshot) {
+        return snapshot.getBuiltAt().plus(Duration.ofMillis(refreshIntervalMillis));
+    }
+
+    public void invalidate() {
+        current = null;
+        eventPublisher.publishEvent(new CatalogRefreshedEvent(null));
+    }
+
+    private synchronized Mono<CatalogSnapshot> refresh() {
+        CatalogSnapshot snapshot = current;
+        if (snapshot != null && !isExpired(snapshot)) {
+            return Mono.just(snapshot);
+        }
+        if (pending == null) {
+            pending = peerSnapshotClient.fetchNewerThan(snapshot)
+                    .switchIfEmpty(admissionService.admit(Mono.defer(this::crawl)))
+                    .doOnNext(this::publish)
+                    .doFinally(signal -> clearPending())
+                    .cache();
+        }
+        return pending;
+    }
+
+    private synchronized void clearPending() {
+        pending = null;
+    }
+
+    private void publish(CatalogSnapshot snapshot) {
+        log.info("Catalog snapshot {} published with {} movies", Long.toHexString(snapshot.getVersion()), snapshot.size());
+        current = snapshot;
+        eventPublisher.publishEvent(new CatalogRefreshedEvent(snapshot));
+    }
+
+    private boolean isExpired(CatalogSnapshot snapshot) {
+        return getExpiresAt(snapshot).isBefore(Instant.now());
+    }
+
+    private Mono<CatalogSnapshot> crawl() {
+        long crawlId = crawls.incrementAndGet();
+        CatalogBuildEvent event = new CatalogBuildEvent();
+        event.crawlId = crawlId;
+        event.begin();
+
+        return MoviePages.all(movieApiClient, maxConcurrentRequests)
+                .doOnNext(page -> event.pages++)
+                .collect(CatalogSnapshotBuilder::new,
+                        (builder, page) -> page.getData().forEach(builder::add))
+                .map(builder -> builder.build())
+                .doOnNext(snapshot -> {
+                    event.movies = snapshot.size();
+                    event.directors = snapshot.distinctValues(Dimension.DIRECTOR);
+                })
+                .doOnError(ex -> event.failed = true)
+                .doFinally(signal -> {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.commit();
+                    }
+                })
+                .contextWrite(Context.of(ResponseBodyStats.CRAWL_ID_KEY, crawlId));
+    }
+}
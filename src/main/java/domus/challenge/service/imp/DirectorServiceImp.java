@@ -1,81 +1,117 @@
 package domus.challenge.service.imp;
 
 import com.github.benmanes.caffeine.cache.Cache;
-import domus.challenge.model.dto.Movie;
-import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.accesslog.AccessLog;
+import domus.challenge.cache.OffHeapCache;
+import domus.challenge.catalog.CatalogRefreshedEvent;
+import domus.challenge.catalog.Dimension;
+import domus.challenge.jfr.CacheLookupEvent;
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.model.request.DirectorQuery;
 import domus.challenge.model.response.DirectorResponse;
+import domus.challenge.service.AggregationService;
 import domus.challenge.service.DirectorService;
-import domus.challenge.service.MovieApiClient;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 public class DirectorServiceImp implements DirectorService {
 
-    @Value("${external-api.max-concurrent-requests:5}")
-    private int maxConcurrentRequests;
+    private final AggregationService aggregationService;
+    private final Cache<DirectorQuery, DirectorResponse> directorsCache;
+    private final OffHeapCache<DirectorQuery, DirectorResponse> directorsOffHeapCache;
+    private final AccessLog accessLog;
+    private final AtomicLong cacheGeneration = new AtomicLong();
 
-    private final MovieApiClient movieApiClient;
-    private final Cache<Integer, DirectorResponse> directorsCache;
-
-    public DirectorServiceImp(MovieApiClient movieApiClient,
-                              Cache<Integer, DirectorResponse> directorsCache) {
-        this.movieApiClient = movieApiClient;
+    public DirectorServiceImp(AggregationService aggregationService,
+                              Cache<DirectorQuery, DirectorResponse> directorsCache,
+                              OffHeapCache<DirectorQuery, DirectorResponse> directorsOffHeapCache,
+                              AccessLog accessLog) {
+        this.aggregationService = aggregationService;
         this.directorsCache = directorsCache;
+        this.directorsOffHeapCache = directorsOffHeapCache;
+        this.accessLog = accessLog;
     }
 
     public Mono<DirectorResponse> getDirectorsByThreshold(Integer threshold) {
+        return getDirectorsByThreshold(threshold, CatalogFilter.NONE);
+    }
+
+    public Mono<DirectorResponse> getDirectorsByThreshold(Integer threshold, CatalogFilter filter) {
 
         if (threshold < 0) {
             return Mono.just(DirectorResponse.builder().directors(List.of()).build());
         }
 
-        DirectorResponse cached = directorsCache.getIfPresent(threshold);
+        DirectorQuery query = DirectorQuery.of(threshold, filter);
+        long generation = cacheGeneration.get();
+        DirectorResponse cached = lookup(query, generation);
+        accessLog.recordCacheLookup(cached != null);
         if (cached != null) {
-            log.info("Returning cached response for threshold {}", threshold);
+            log.debug("Returning cached response for threshold {}", threshold);
             return Mono.just(cached);
         }
 
-        return movieApiClient.getMoviesPage(1)
-                .flatMap(firstPage -> {
-                    int totalPages = firstPage.getTotal_pages();
-                    Flux<MovieApiResponse> allPages;
-
-                    if (totalPages <= 1) {
-                        allPages = Flux.just(firstPage);
-                    } else {
-                        allPages = Flux.concat(
-                                Flux.just(firstPage),
-                                Flux.range(2, totalPages - 1)
-                                        .flatMap(movieApiClient::getMoviesPage, maxConcurrentRequests)
-                        );
-                    }
-
-                    return allPages
-                            .flatMap(page -> Flux.fromIterable(page.getData()))
-                            .collect(Collectors.groupingByConcurrent(Movie::getDirector, Collectors.counting()))
-                            .map(counts -> counts.entrySet().stream()
-                                    .filter(e -> e.getValue() > threshold)
-                                    .map(Map.Entry::getKey)
-                                    .sorted()
-                                    .collect(Collectors.toList()))
-                            .map(directors -> {
-                                DirectorResponse response = DirectorResponse.builder()
-                                        .directors(directors)
-                                        .build();
-                                directorsCache.put(threshold, response);
-                                return response;
-                            });
+        return aggregationService.getValuesAboveThreshold(Dimension.DIRECTOR, threshold, filter)
+                .map(directors -> {
+                    DirectorResponse response = DirectorResponse.builder()
+                            .directors(directors)
+                            .build();
+                    store(query, response, generation, true);
+                    return response;
                 });
     }
 
+    private DirectorResponse lookup(DirectorQuery query, long generation) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        DirectorResponse cached = directorsCache.getIfPresent(query);
+        if (cached == null) {
+            cached = directorsOffHeapCache.getIfPresent(query);
+            if (cached != null) {
+                store(query, cached, generation, false);
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.cache = "directorsCache";
+            event.key = query.toString();
+            event.hit = cached != null;
+            event.commit();
+        }
+        return cached;
+    }
+
+    /**
+     * Caches a result unless the catalog was refreshed since {@code generation} was read,
+     * and undoes the put if a refresh raced with it, so a result computed from the
+     * previous snapshot never outlives the invalidation. Results that straddle a refresh,
+     * including the one that triggered the load, are simply not cached.
+     */
+    private void store(DirectorQuery query, DirectorResponse response, long generation, boolean offHeap) {
+        if (cacheGeneration.get() != generation) {
+            return;
+        }
+        if (offHeap) {
+            directorsOffHeapCache.put(query, response);
+        }
+        directorsCache.put(query, response);
+        if (cacheGeneration.get() != generation) {
+            directorsCache.invalidate(query);
+            directorsOffHeapCache.invalidate(query);
+        }
+    }
 
-}
\ No newline at end of file
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        cacheGeneration.incrementAndGet();
+        directorsCache.invalidateAll();
+        directorsOffHeapCache.invalidateAll();
+    }
+}
@@ -1,6 +1,8 @@
 package domus.challenge.service.imp;
 
 import domus.challenge.exception.ApiException;
+import domus.challenge.jfr.PageFetchEvent;
+import domus.challenge.jfr.ResponseBodyStats;
 import domus.challenge.model.dto.MovieApiResponse;
 import domus.challenge.service.MovieApiClient;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
@@ -25,17 +28,43 @@ public class MovieApiServiceImp implements MovieApiClient {
 
     public Mono<MovieApiResponse> getMoviesPage(int pageNumber) {
 
-        return Mono.defer(() -> webClient.get()
-                        .uri(moviesUrl + "?page={page}", pageNumber)
-                        .retrieve()
-                        .bodyToMono(MovieApiResponse.class)
-                        .doOnNext(response -> log.debug("Fetched page {} with {} movies",
-                                pageNumber, response.getData().size()))
-                        .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                                .maxBackoff(Duration.ofSeconds(5))
-                                .doBeforeRetry(signal -> log.warn("Retry attempt {} for page {}",
-                                        signal.totalRetries() + 1, pageNumber)))
-                        .onErrorMap(ex -> new ApiException("Failed to fetch page " + pageNumber, ex))
-                        .timeout(Duration.ofSeconds(15)));
+        return Mono.deferContextual(ctx -> {
+            PageFetchEvent event = new PageFetchEvent();
+            ResponseBodyStats stats = new ResponseBodyStats();
+            event.crawlId = ctx.getOrDefault(ResponseBodyStats.CRAWL_ID_KEY, 0L);
+            event.page = pageNumber;
+            event.begin();
+
+            return webClient.get()
+                    .uri(moviesUrl + "?page={page}", pageNumber)
+                    .retrieve()
+                    .bodyToMono(MovieApiResponse.class)
+                    .doOnNext(response -> {
+                        log.debug("Fetched page {} with {} movies", pageNumber, response.getData().size());
+                        event.movies = response.getData().size();
+                        if (stats.getLastChunkNanos() != 0) {
+                            event.decodeTime = System.nanoTime() - stats.getLastChunkNanos();
+                        }
+                    })
+                    .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
+                            .maxBackoff(Duration.ofSeconds(5))
+                            .doBeforeRetry(signal -> {
+                                log.warn("Retry attempt {} for page {}", signal.totalRetries() + 1, pageNumber);
+                                event.retries++;
+                            }))
+                    .onErrorMap(ex -> new ApiException("Failed to fetch page " + pageNumber, ex))
+                    .timeout(Duration.ofSeconds(15))
+                    .doFinally(signal -> commit(event, stats, signal))
+                    .contextWrite(context -> context.put(ResponseBodyStats.CONTEXT_KEY, stats));
+        });
+    }
+
+    private static void commit(PageFetchEvent event, ResponseBodyStats stats, SignalType signal) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = stats.getBytes();
+            event.failed = signal != SignalType.ON_COMPLETE;
+            event.commit();
+        }
     }
-}
\ No newline at end of file
+}
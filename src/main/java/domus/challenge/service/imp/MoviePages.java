@@ -0,0 +1,30 @@
+package domus.challenge.service.imp;
+
+import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.service.MovieApiClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * Fans out over every upstream page once the first one reveals {@code total_pages}.
+ * Pages are emitted as they arrive, so consumers decide how much of the catalog is held.
+ */
+final class MoviePages {
+
+    private MoviePages() {
+    }
+
+    static Flux<MovieApiResponse> all(MovieApiClient movieApiClient, int maxConcurrentRequests) {
+        return movieApiClient.getMoviesPage(1)
+                .flatMapMany(firstPage -> {
+                    int totalPages = firstPage.getTotal_pages();
+                    if (totalPages <= 1) {
+                        return Flux.just(firstPage);
+                    }
+                    return Flux.concat(
+                            Flux.just(firstPage),
+                            Flux.range(2, totalPages - 1)
+                                    .flatMap(movieApiClient::getMoviesPage, maxConcurrentRequests)
+                    );
+                });
+    }
+}
@@ -0,0 +1,55 @@
+package domus.challenge.service.imp;
+
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.service.CatalogService;
+import domus.challenge.service.MovieSearchService;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+@Service
+public class MovieSearchServiceImp implements MovieSearchService {
+
+    private static final int MAX_PER_PAGE = 100;
+
+    private final CatalogService catalogService;
+
+    public MovieSearchServiceImp(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    public Mono<MovieApiResponse> search(String query, int page, int perPage) {
+        int pageNumber = Math.max(page, 1);
+        int pageSize = Math.min(Math.max(perPage, 1), MAX_PER_PAGE);
+
+        return catalogService.getLatestSnapshot()
+                .map(snapshot -> page(snapshot, snapshot.getMovieIndex().search(query), pageNumber, pageSize));
+    }
+
+    private MovieApiResponse page(CatalogSnapshot snapshot, BitSet matches, int page, int perPage) {
+        int total = matches.cardinality();
+        long skip = (long) (page - 1) * perPage;
+
+        List<Movie> data = new ArrayList<>(Math.min(perPage, total));
+        int movieId = matches.nextSetBit(0);
+        for (long i = 0; i < skip && movieId >= 0; i++) {
+            movieId = matches.nextSetBit(movieId + 1);
+        }
+        for (; movieId >= 0 && data.size() < perPage; movieId = matches.nextSetBit(movieId + 1)) {
+            data.add(snapshot.movie(movieId));
+        }
+
+        return MovieApiResponse.builder()
+                .page(page)
+                .per_page(perPage)
+                .total(total)
+                .total_pages((total + perPage - 1) / perPage)
+                .data(data)
+                .build();
+    }
+}
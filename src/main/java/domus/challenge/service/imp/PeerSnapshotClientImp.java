@@ -0,0 +1,114 @@
+package domus.challenge.service.imp;
+
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.catalog.CatalogSnapshotCodec;
+import domus.challenge.controller.SnapshotController;
+import domus.challenge.service.PeerSnapshotClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Asks the configured peers, in order, for a snapshot that is still fresh and newer
+ * than ours. A 304 means the peer holds the same content, so ours is adopted under the
+ * peer's newer build time. Empty means the caller should fall back to crawling upstream.
+ */
+@Slf4j
+@Service
+public class PeerSnapshotClientImp implements PeerSnapshotClient {
+
+    @Value("${peer-sync.enabled:false}")
+    private boolean enabled;
+
+    @Value("${peer-sync.peers:}")
+    private List<String> peers;
+
+    @Value("${peer-sync.timeout:2000}")
+    private long timeoutMillis;
+
+    @Value("${catalog.refresh-interval:180000}")
+    private long refreshIntervalMillis;
+
+    private final WebClient webClient;
+
+    public PeerSnapshotClientImp(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    public Mono<CatalogSnapshot> fetchNewerThan(CatalogSnapshot current) {
+        if (!enabled || peers.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(peers)
+                .concatMap(peer -> fetch(peer, current))
+                .next();
+    }
+
+    private Mono<CatalogSnapshot> fetch(String peer, CatalogSnapshot current) {
+        return webClient.get()
+                .uri(peer + SnapshotController.PATH)
+                .headers(headers -> {
+                    if (current != null) {
+                        headers.setIfNoneMatch(SnapshotController.etag(current));
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.OK)) {
+                        return response.bodyToMono(byte[].class).map(PeerResponse::modified);
+                    }
+                    String builtAt = response.headers().asHttpHeaders().getFirst(SnapshotController.BUILT_AT_HEADER);
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && current != null && builtAt != null) {
+                        return response.releaseBody().thenReturn(PeerResponse.notModified(Instant.parse(builtAt)));
+                    }
+                    return response.releaseBody().then(Mono.<PeerResponse>empty());
+                })
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> response.payload != null
+                        ? CatalogSnapshotCodec.decode(response.payload)
+                        : current.withBuiltAt(response.builtAt))
+                .filter(snapshot -> isFresh(snapshot)
+                        && (current == null || snapshot.getBuiltAt().isAfter(current.getBuiltAt())))
+                .doOnNext(snapshot -> log.info("Fetched catalog snapshot {} built at {} from peer {}",
+                        Long.toHexString(snapshot.getVersion()), snapshot.getBuiltAt(), peer))
+                .onErrorResume(ex -> {
+                    log.warn("Peer {} did not provide a snapshot: {}", peer, ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean isFresh(CatalogSnapshot snapshot) {
+        return snapshot.getBuiltAt().plus(Duration.ofMillis(refreshIntervalMillis)).isAfter(Instant.now());
+    }
+
+    /**
+     * Either a full encoded snapshot, or only the peer's build time when it answered 304
+     * because it holds the same content as we do.
+     */
+    private static final class PeerResponse {
+        private final byte[] payload;
+        private final Instant builtAt;
+
+        private PeerResponse(byte[] payload, Instant builtAt) {
+            this.payload = payload;
+            this.builtAt = builtAt;
+        }
+
+        private static PeerResponse modified(byte[] payload) {
+            return new PeerResponse(payload, null);
+        }
+
+        private static PeerResponse notModified(Instant builtAt) {
+            return new PeerResponse(null, builtAt);
+        }
+    }
+}
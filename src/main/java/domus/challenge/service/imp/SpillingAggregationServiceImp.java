@@ -0,0 +1,99 @@
+package domus.challenge.service.imp;
+
+import domus.challenge.catalog.Dimension;
+import domus.challenge.catalog.SpillingCounter;
+import domus.challenge.jfr.AggregationEvent;
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.service.AdmissionService;
+import domus.challenge.service.AggregationService;
+import domus.challenge.service.MovieApiClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Bounded-memory aggregation for catalogs too large to hold as a snapshot. Every
+ * query streams the upstream pages once, counts matching values in a
+ * {@link SpillingCounter} and drops each page as soon as it has been counted.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "aggregation.mode", havingValue = "spill")
+public class SpillingAggregationServiceImp implements AggregationService {
+
+    @Value("${external-api.max-concurrent-requests:5}")
+    private int maxConcurrentRequests;
+
+    @Value("${aggregation.spill.memory-budget:67108864}")
+    private long memoryBudget;
+
+    @Value("${aggregation.spill.directory:${java.io.tmpdir}}")
+    private Path spillDirectory;
+
+    private final MovieApiClient movieApiClient;
+    private final AdmissionService admissionService;
+    private final Counter spilledRuns;
+    private final Counter spilledBytes;
+
+    public SpillingAggregationServiceImp(MovieApiClient movieApiClient,
+                                         AdmissionService admissionService,
+                                         MeterRegistry meterRegistry) {
+        this.movieApiClient = movieApiClient;
+        this.admissionService = admissionService;
+        this.spilledRuns = Counter.builder("aggregation.spill.runs").register(meterRegistry);
+        this.spilledBytes = Counter.builder("aggregation.spill.bytes").baseUnit("bytes").register(meterRegistry);
+    }
+
+    public Mono<List<String>> getValuesAboveThreshold(Dimension dimension, Integer threshold, CatalogFilter filter) {
+
+        if (threshold < 0) {
+            return Mono.just(List.of());
+        }
+
+        CatalogFilter effective = filter == null ? CatalogFilter.NONE : filter;
+        return admissionService.admit(Mono.defer(() -> aggregate(dimension, threshold, effective)));
+    }
+
+    private Mono<List<String>> aggregate(Dimension dimension, int threshold, CatalogFilter filter) {
+        AggregationEvent event = new AggregationEvent();
+        event.dimension = dimension.name();
+        event.threshold = threshold;
+        event.filtered = !filter.isEmpty();
+        event.begin();
+
+        return Mono.using(
+                () -> new SpillingCounter(memoryBudget, spillDirectory),
+                counter -> MoviePages.all(movieApiClient, maxConcurrentRequests)
+                        .publishOn(Schedulers.boundedElastic(), maxConcurrentRequests)
+                        .doOnNext(page -> page.getData().forEach(movie -> {
+                            if (filter.matches(movie)) {
+                                event.movies++;
+                                counter.add(dimension, movie);
+                            }
+                        }))
+                        .then(Mono.fromCallable(() -> counter.valuesWithMoreThan(threshold)))
+                        .doOnNext(values -> {
+                            event.results = values.size();
+                            event.spilledRuns = counter.getSpillCount();
+                            spilledRuns.increment(counter.getSpillCount());
+                            spilledBytes.increment(counter.getSpilledBytes());
+                            log.info("Aggregated {} over {} movies with {} spilled runs (peak {} bytes in memory)",
+                                    dimension, event.movies, counter.getSpillCount(), counter.getPeakBytes());
+                        }),
+                SpillingCounter::close)
+                .doFinally(signal -> {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.commit();
+                    }
+                });
+    }
+}
@@ -0,0 +1,46 @@
+package domus.challenge.startup;
+
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.service.CatalogService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE until the first catalog snapshot is loaded. Only registered
+ * when {@code catalog.warm-up} is on, since otherwise nothing loads the catalog before
+ * the first request; the fast-start profile adds it to the readiness group so new
+ * instances only get traffic once they can answer from memory. The spill mode skips
+ * the warm-up and is always up.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.warm-up", havingValue = "true")
+public class CatalogHealthIndicator implements HealthIndicator {
+
+    @Value("${aggregation.mode:snapshot}")
+    private String aggregationMode;
+
+    private final CatalogService catalogService;
+
+    public CatalogHealthIndicator(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @Override
+    public Health health() {
+        if ("spill".equals(aggregationMode)) {
+            return Health.up().withDetail("mode", aggregationMode).build();
+        }
+        CatalogSnapshot snapshot = catalogService.getCurrentSnapshot();
+        if (snapshot == null) {
+            return Health.outOfService().withDetail("reason", "catalog not loaded").build();
+        }
+        return Health.up()
+                .withDetail("version", Long.toHexString(snapshot.getVersion()))
+                .withDetail("movies", snapshot.size())
+                .withDetail("builtAt", snapshot.getBuiltAt().toString())
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package domus.challenge.startup;
+
+import domus.challenge.service.CatalogService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads the catalog as soon as the application is ready instead of on the first
+ * request, retrying until it succeeds, and records the load as the
+ * {@code domus.catalog.warm-up} startup step. Time to first useful response is
+ * exported as {@code application.catalog.ready.time}. Skipped in spill mode, which
+ * answers aggregations without a snapshot.
+ */
+@Slf4j
+@Component
+public class CatalogWarmUp {
+
+    @Value("${catalog.warm-up:false}")
+    private boolean enabled;
+
+    @Value("${aggregation.mode:snapshot}")
+    private String aggregationMode;
+
+    private final CatalogService catalogService;
+    private final ApplicationStartup applicationStartup;
+    private final AtomicLong catalogReadyMillis = new AtomicLong(-1);
+    private Disposable warmUp;
+
+    public CatalogWarmUp(CatalogService catalogService, ApplicationStartup applicationStartup,
+                         MeterRegistry meterRegistry) {
+        this.catalogService = catalogService;
+        this.applicationStartup = applicationStartup;
+        TimeGauge.builder("application.catalog.ready.time", catalogReadyMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time from JVM start until the first catalog snapshot was loaded")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled || "spill".equals(aggregationMode)) {
+            return;
+        }
+        StartupStep step = applicationStartup.start("domus.catalog.warm-up");
+        warmUp = catalogService.getSnapshot()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Catalog warm-up failed, retrying: {}",
+                                signal.failure().getMessage())))
+                .doFinally(signal -> step.end())
+                .subscribe(snapshot -> {
+                    long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+                    catalogReadyMillis.set(uptime);
+                    step.tag("version", Long.toHexString(snapshot.getVersion()));
+                    step.tag("movies", String.valueOf(snapshot.size()));
+                    log.info("Catalog ready {} ms after JVM start ({} movies)", uptime, snapshot.size());
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (warmUp != null) {
+            warmUp.dispose();
+        }
+    }
+}
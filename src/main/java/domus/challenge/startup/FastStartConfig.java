@@ -0,0 +1,23 @@
+package domus.challenge.startup;
+
+import domus.challenge.config.SwaggerConfig;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With {@code spring.main.lazy-initialization=true} (fast-start profile) only
+ * infrastructure and docs are deferred: the application's own controllers, services
+ * and caches stay eager so the first request does not pay for their creation.
+ * Unconditional on purpose, because AOT evaluates profile conditions at build time.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && beanType.getName().startsWith("domus.challenge.")
+                && !SwaggerConfig.class.isAssignableFrom(beanType);
+    }
+}
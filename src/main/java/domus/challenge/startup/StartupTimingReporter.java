@@ -0,0 +1,51 @@
+package domus.challenge.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * Logs the slowest startup steps once the application is ready. The full breakdown
+ * stays available at {@code /actuator/startup}.
+ */
+@Slf4j
+@Component
+public class StartupTimingReporter {
+
+    @Value("${startup.report.top-steps:10}")
+    private int topSteps;
+
+    private final ApplicationStartup applicationStartup;
+
+    public StartupTimingReporter(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        log.info("Application ready in {} ms, slowest startup steps:", event.getTimeTaken().toMillis());
+        timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topSteps)
+                .forEach(step -> log.info("  {} ms  {} {}", step.getDuration().toMillis(),
+                        step.getStartupStep().getName(), tags(step)));
+    }
+
+    private static String tags(StartupTimeline.TimelineEvent step) {
+        StringBuilder tags = new StringBuilder();
+        step.getStartupStep().getTags()
+                .forEach(tag -> tags.append(tag.getKey()).append('=').append(tag.getValue()).append(' '));
+        return tags.toString().trim();
+    }
+}
@@ -0,0 +1,115 @@
+package domus.challenge.accesslog;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccessLog Tests")
+class AccessLogTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("domus.challenge.access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private AccessLog accessLog;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLogger.addAppender(appender);
+
+        accessLog = new AccessLog();
+        ReflectionTestUtils.setField(accessLog, "enabled", true);
+        ReflectionTestUtils.setField(accessLog, "sampleRate", 0);
+        ReflectionTestUtils.setField(accessLog, "bufferSize", 16);
+        ReflectionTestUtils.setField(accessLog, "intervalMillis", 60_000L);
+        accessLog.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLog.stop();
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should write one summary line per route instead of one line per request")
+    void testSummaryPerInterval() {
+        int directors = accessLog.routeId("/directors");
+        for (int i = 0; i < 1_000; i++) {
+            accessLog.record(directors, i % 10 == 0 ? 304 : 200, 4, 2_000);
+        }
+        accessLog.record(accessLog.routeId("/directors"), 429, 4, 1_000);
+        accessLog.recordCacheLookup(true);
+        accessLog.recordCacheLookup(false);
+
+        accessLog.flush();
+
+        assertThat(messages()).containsExactly(
+                "summary route=/directors requests=1001 2xx=900 3xx=100 4xx=1 5xx=0 avgMicros=1 maxMicros=2",
+                "summary cacheHits=1 cacheMisses=1 droppedSamples=0");
+
+        appender.list.clear();
+        accessLog.flush();
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should always sample server errors even when sampling is off")
+    void testServerErrorsAreSampled() {
+        int route = accessLog.routeId("/directors");
+        accessLog.record(route, 503, 7, 5_000);
+        accessLog.record(route, 200, 7, 5_000);
+
+        accessLog.flush();
+
+        assertThat(messages().get(0)).matches("ts=\\d+ route=/directors status=503 micros=5 threshold=7");
+        assertThat(messages()).hasSize(2);
+        assertThat(messages().get(1)).contains("requests=2", "5xx=1");
+    }
+
+    @Test
+    @DisplayName("Should never block producers and account for every entry as drained or dropped")
+    void testRingUnderContention() throws InterruptedException {
+        AccessLogRing ring = new AccessLogRing(64);
+        int producers = 4;
+        int perProducer = 50_000;
+        AtomicLong drained = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int route = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    ring.offer(route, 200, i, i, i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        AccessLogRing.EntryConsumer check = (route, status, threshold, latencyNanos, timestamp) ->
+                assertThat(threshold).isEqualTo((int) latencyNanos).isEqualTo((int) timestamp);
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            drained.addAndGet(ring.drain(check));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        drained.addAndGet(ring.drain(check));
+
+        assertThat(drained.get() + ring.droppedAndReset()).isEqualTo((long) producers * perProducer);
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+}
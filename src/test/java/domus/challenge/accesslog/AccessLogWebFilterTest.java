@@ -0,0 +1,83 @@
+package domus.challenge.accesslog;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import domus.challenge.service.MovieApiClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"access-log.sample-rate=0", "access-log.interval=600000"})
+@DisplayName("AccessLogWebFilter Tests")
+class AccessLogWebFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger("domus.challenge.access");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private AccessLog accessLog;
+
+    @MockitoBean
+    private MovieApiClient movieApiClient;
+
+    @BeforeEach
+    void setUp() {
+        accessLog.flush();
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Should count errors resolved by the WebExceptionHandler under their final status")
+    void testRecordsFinalStatus() {
+        webTestClient.get().uri("/boom").exchange().expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        webTestClient.get().uri("/directors/health").exchange().expectStatus().isOk();
+
+        accessLog.flush();
+
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .anySatisfy(line -> assertThat(line).matches("ts=\\d+ route=unmatched status=503 .*"))
+                .anySatisfy(line -> assertThat(line).startsWith("summary route=unmatched requests=1 2xx=0 3xx=0 4xx=0 5xx=1 "))
+                .anySatisfy(line -> assertThat(line).startsWith("summary route=/directors/health requests=1 2xx=1 "));
+    }
+
+    @TestConfiguration
+    static class FailingFilterConfig {
+
+        /**
+         * Fails inside the filter chain, outside any controller, so the error is resolved
+         * by the WebExceptionHandler after the chain has completed.
+         */
+        @Bean
+        WebFilter failingFilter() {
+            return (exchange, chain) -> exchange.getRequest().getPath().value().endsWith("/boom")
+                    ? Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE))
+                    : chain.filter(exchange);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package domus.challenge.benchmark;
+
+import domus.challenge.ChallengeApplication;
+import domus.challenge.model.response.DirectorResponse;
+import domus.challenge.support.SyntheticCatalog;
+import domus.challenge.support.SyntheticCatalogStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP throughput of warm {@code /api/directors} answers with the access log off,
+ * sampled (the default) and recording every request. Each mode runs in its own
+ * application instance against a synthetic upstream. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Access log on/off benchmark")
+class AccessLogBenchmark {
+
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 10_000;
+    private static final int CONCURRENCY = 64;
+
+    @Test
+    @DisplayName("Should report request throughput with the access log off, sampled and on for every request")
+    void compareLoggingModes() {
+        try (SyntheticCatalogStub stub = new SyntheticCatalogStub(new SyntheticCatalog(20_000, 1_000, 5_000), 0)) {
+            // Throwaway round so JIT warm-up does not favour whichever mode runs later.
+            measure(stub, "--access-log.enabled=false");
+
+            String off = measure(stub, "--access-log.enabled=false");
+            String sampled = measure(stub, "--access-log.sample-rate=100");
+            String every = measure(stub, "--access-log.sample-rate=1", "--access-log.buffer-size=16384");
+
+            System.out.printf("%n%-22s %12s %10s %10s%n", "access log", "req/s", "p50 us", "p99 us");
+            System.out.printf("%-22s %s%n", "off", off);
+            System.out.printf("%-22s %s%n", "sampled 1/100", sampled);
+            System.out.printf("%-22s %s%n", "every request", every);
+        }
+    }
+
+    private static String measure(SyntheticCatalogStub stub, String... accessLogArgs) {
+        String[] args = concat(accessLogArgs,
+                "--server.port=0",
+                "--spring.jmx.enabled=false",
+                "--external-api.movies-url=" + stub.moviesUrl(),
+                "--rate-limiter.limit-for-period=" + Integer.MAX_VALUE,
+                "--rate-limiter.refresh-period=1000",
+                "--access-log.interval=1000");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ChallengeApplication.class).run(args)) {
+            WebClient http = WebClient.create("http://localhost:"
+                    + context.getEnvironment().getProperty("local.server.port") + "/api");
+            run(http, WARMUP_REQUESTS);
+
+            long start = System.nanoTime();
+            long[] latencies = run(http, REQUESTS);
+            double throughput = REQUESTS * 1e9 / (System.nanoTime() - start);
+
+            Arrays.sort(latencies);
+            return String.format("%12.0f %10d %10d", throughput,
+                    latencies[latencies.length / 2] / 1_000, latencies[(int) (latencies.length * 0.99)] / 1_000);
+        }
+    }
+
+    private static long[] run(WebClient http, int requests) {
+        long[] latencies = new long[requests];
+        Long completed = Flux.range(0, requests)
+                .flatMap(i -> Mono.defer(() -> {
+                    long sent = System.nanoTime();
+                    return http.get()
+                            .uri("/directors?threshold={threshold}", 8 + i % 16)
+                            .retrieve()
+                            .bodyToMono(DirectorResponse.class)
+                            .doOnNext(response -> latencies[i] = System.nanoTime() - sent);
+                }), CONCURRENCY)
+                .count()
+                .block(Duration.ofMinutes(2));
+        assertThat(completed).isEqualTo(requests);
+        return latencies;
+    }
+
+    private static String[] concat(String[] first, String... second) {
+        String[] all = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+}
@@ -0,0 +1,153 @@
+package domus.challenge.benchmark;
+
+import domus.challenge.model.request.DirectorsRequest;
+import domus.challenge.model.response.DirectorResponse;
+import domus.challenge.model.response.ThresholdDirectorResponse;
+import domus.challenge.service.MovieApiClient;
+import domus.challenge.support.SyntheticCatalog;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.rsocket.server.LocalRSocketServerPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.test.context.bean.override.convention.TestBean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares {@code GET /api/directors} with the RSocket routes on warm answers, so the
+ * numbers isolate transport and encoding cost. Per-request INFO logging is muted for
+ * the same reason. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.domus.challenge=WARN")
+@DisplayName("HTTP vs RSocket director benchmark")
+class DirectorTransportBenchmark {
+
+    private static final SyntheticCatalog CATALOG = new SyntheticCatalog(20_000, 1_000, 5_000);
+    // Thresholds 8..23 keep answers small (tens of names), the case internal callers hit.
+    private static final int MIN_THRESHOLD = 8;
+    private static final int THRESHOLDS = 16;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 10_000;
+    private static final int CONCURRENCY = 64;
+
+    @LocalServerPort
+    private int httpPort;
+
+    @LocalRSocketServerPort
+    private int rsocketPort;
+
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    @MockitoBean
+    private MovieApiClient movieApiClient;
+
+    @TestBean(name = "customApiRateLimiter")
+    private RateLimiter rateLimiter;
+
+    static RateLimiter customApiRateLimiter() {
+        return RateLimiter.of("benchmark", RateLimiterConfig.custom()
+                .limitForPeriod(Integer.MAX_VALUE)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should report throughput and latency for HTTP, RSocket request-response and request-channel")
+    void compareTransports() {
+        when(movieApiClient.getMoviesPage(anyInt()))
+                .thenAnswer(invocation -> Mono.just(CATALOG.page(invocation.getArgument(0))));
+
+        WebClient http = WebClient.create("http://localhost:" + httpPort + "/api");
+        RSocketRequester rsocket = requesterBuilder.tcp("localhost", rsocketPort);
+        try {
+            IntFunction<Mono<?>> httpCall = i -> http.get()
+                    .uri("/directors?threshold={threshold}", MIN_THRESHOLD + i % THRESHOLDS)
+                    .retrieve()
+                    .bodyToMono(DirectorResponse.class);
+            IntFunction<Mono<?>> rsocketCall = i -> rsocket.route("directors")
+                    .data(DirectorsRequest.builder().threshold(MIN_THRESHOLD + i % THRESHOLDS).build())
+                    .retrieveMono(DirectorResponse.class);
+
+            run(httpCall, WARMUP_REQUESTS);
+            run(rsocketCall, WARMUP_REQUESTS);
+            channel(rsocket, WARMUP_REQUESTS);
+
+            System.out.printf("%n%-26s %12s %10s %10s%n", "transport", "req/s", "p50 us", "p99 us");
+            report("HTTP+JSON", run(httpCall, REQUESTS));
+            report("RSocket request-response", run(rsocketCall, REQUESTS));
+            report("RSocket request-channel", channel(rsocket, REQUESTS));
+        } finally {
+            rsocket.dispose();
+        }
+    }
+
+    private static Result run(IntFunction<Mono<?>> call, int requests) {
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        Long completed = Flux.range(0, requests)
+                .flatMap(i -> Mono.defer(() -> {
+                    long sent = System.nanoTime();
+                    return call.apply(i).doOnNext(response -> latencies[i] = System.nanoTime() - sent);
+                }), CONCURRENCY)
+                .count()
+                .block(Duration.ofMinutes(2));
+        assertThat(completed).isEqualTo(requests);
+        return new Result(requests, System.nanoTime() - start, latencies);
+    }
+
+    private static Result channel(RSocketRequester rsocket, int requests) {
+        long start = System.nanoTime();
+        Long completed = rsocket.route("directors.channel")
+                .data(Flux.range(0, requests)
+                        .map(i -> DirectorsRequest.builder().threshold(MIN_THRESHOLD + i % THRESHOLDS).build()))
+                .retrieveFlux(ThresholdDirectorResponse.class)
+                .count()
+                .block(Duration.ofMinutes(2));
+        assertThat(completed).isEqualTo(requests);
+        return new Result(requests, System.nanoTime() - start, null);
+    }
+
+    private static void report(String transport, Result result) {
+        double throughput = result.requests * 1e9 / result.elapsedNanos;
+        if (result.latencies == null) {
+            System.out.printf("%-26s %12.0f %10s %10s%n", transport, throughput, "-", "-");
+            return;
+        }
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-26s %12.0f %10d %10d%n", transport, throughput,
+                sorted[sorted.length / 2] / 1_000, sorted[(int) (sorted.length * 0.99)] / 1_000);
+    }
+
+    private static final class Result {
+        private final int requests;
+        private final long elapsedNanos;
+        private final long[] latencies;
+
+        private Result(int requests, long elapsedNanos, long[] latencies) {
+            this.requests = requests;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+        }
+    }
+}
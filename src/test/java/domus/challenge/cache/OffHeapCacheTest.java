@@ -0,0 +1,149 @@
+package domus.challenge.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domus.challenge.model.response.DirectorResponse;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OffHeapCache Tests")
+class OffHeapCacheTest {
+
+    private OffHeapCache<Integer, DirectorResponse> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OffHeapCache<>(256, Duration.ofMinutes(1), UnpooledByteBufAllocator.DEFAULT,
+                new ObjectMapper(), DirectorResponse.class);
+    }
+
+    @Test
+    @DisplayName("Should return a copy of the stored value and count hits and misses")
+    void testRoundTrip() {
+        DirectorResponse response = DirectorResponse.builder().directors(List.of("Director A", "Director B")).build();
+
+        cache.put(1, response);
+
+        DirectorResponse cached = cache.getIfPresent(1);
+
+        assertThat(cached).isNotSameAs(response);
+        assertThat(cached.getDirectors()).containsExactly("Director A", "Director B");
+        assertThat(cache.getIfPresent(2)).isNull();
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(cache.offHeapBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should evict entries once the off-heap byte budget is exceeded")
+    void testEvictsByWeight() {
+        for (int i = 0; i < 20; i++) {
+            cache.put(i, DirectorResponse.builder().directors(List.of("Director " + i)).build());
+        }
+        cache.cleanUp();
+
+        assertThat(cache.offHeapBytes()).isLessThanOrEqualTo(256);
+        assertThat(cache.estimatedSize()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("Should release every buffer on invalidateAll")
+    void testInvalidateAllReleasesBuffers() {
+        cache.put(1, DirectorResponse.builder().directors(List.of("Director A")).build());
+        cache.put(1, DirectorResponse.builder().directors(List.of("Director B")).build());
+
+        assertThat(cache.getIfPresent(1).getDirectors()).containsExactly("Director B");
+
+        cache.invalidateAll();
+        cache.cleanUp();
+
+        assertThat(cache.getIfPresent(1)).isNull();
+        assertThat(cache.offHeapBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire entries by write time even when they keep being read")
+    void testReadsDoNotExtendExpiry() {
+        AtomicLong nanos = new AtomicLong();
+        OffHeapCache<Integer, DirectorResponse> timed = new OffHeapCache<>(256, Duration.ofMinutes(1),
+                UnpooledByteBufAllocator.DEFAULT, new ObjectMapper(), DirectorResponse.class, nanos::get);
+
+        timed.put(1, DirectorResponse.builder().directors(List.of("Director A")).build());
+
+        nanos.addAndGet(Duration.ofSeconds(40).toNanos());
+        assertThat(timed.getIfPresent(1)).isNotNull();
+        nanos.addAndGet(Duration.ofSeconds(40).toNanos());
+        assertThat(timed.getIfPresent(1)).isNull();
+
+        timed.cleanUp();
+        assertThat(timed.offHeapBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never return another key's payload while entries are invalidated concurrently")
+    void testConcurrentGetAndInvalidate() throws Exception {
+        OffHeapCache<Integer, DirectorResponse> pooled = new OffHeapCache<>(1 << 20, Duration.ofMinutes(1),
+                new PooledByteBufAllocator(true), new ObjectMapper(), DirectorResponse.class);
+        int keys = 8;
+        long deadline = System.nanoTime() + Duration.ofMillis(500).toNanos();
+        AtomicInteger mismatches = new AtomicInteger();
+        AtomicInteger hits = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int round = 0; System.nanoTime() < deadline; round++) {
+                    for (int key = 0; key < keys; key++) {
+                        pooled.put(key, DirectorResponse.builder().directors(List.of("Director " + key)).build());
+                    }
+                    if (round % 2 == 0) {
+                        pooled.invalidateAll();
+                    }
+                }
+            });
+            List<Future<?>> readers = List.of(executor.submit(() -> read(pooled, keys, deadline, hits, mismatches)),
+                    executor.submit(() -> read(pooled, keys, deadline, hits, mismatches)));
+
+            writer.get(10, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(hits.get()).isPositive();
+        assertThat(mismatches.get()).isZero();
+
+        pooled.invalidateAll();
+        pooled.cleanUp();
+        assertThat(pooled.offHeapBytes()).isZero();
+    }
+
+    private static void read(OffHeapCache<Integer, DirectorResponse> cache, int keys, long deadline,
+                             AtomicInteger hits, AtomicInteger mismatches) {
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+            int key = i % keys;
+            DirectorResponse cached = cache.getIfPresent(key);
+            if (cached == null) {
+                continue;
+            }
+            hits.incrementAndGet();
+            if (!cached.getDirectors().equals(List.of("Director " + key))) {
+                mismatches.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.request.CatalogFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CatalogSnapshotCodec Tests")
+class CatalogSnapshotCodecTest {
+
+    private final CatalogSnapshot snapshot = new CatalogSnapshotBuilder()
+            .add(Movie.builder().title("Movie 1").year(2015).rated("R").released("01 Jan 2015").runtime("120 min")
+                    .genre("Drama , Crime").director("Director A").writer("Writer W").actors("Actor X, Actor Y").build())
+            .add(Movie.builder().title("Movie 2").year(2018).genre("Drama").director("Director A").build())
+            .add(Movie.builder().title("Movie 3").year(2020).director("Director B").actors("Actor X").build())
+            .build(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+
+    @Test
+    @DisplayName("Should round-trip a snapshot with the same version and contents")
+    void testRoundTrip() {
+        CatalogSnapshot decoded = CatalogSnapshotCodec.decode(CatalogSnapshotCodec.encode(snapshot));
+
+        assertThat(decoded.getVersion()).isEqualTo(snapshot.getVersion());
+        assertThat(decoded.getBuiltAt()).isEqualTo(snapshot.getBuiltAt());
+        assertThat(decoded.size()).isEqualTo(3);
+        assertThat(decoded.movie(0).getGenre()).isEqualTo("Drama, Crime");
+        assertThat(decoded.movie(0).getRuntime()).isEqualTo("120 min");
+        assertThat(decoded.valuesWithMoreThan(Dimension.DIRECTOR, 1, CatalogFilter.NONE))
+                .containsExactly("Director A");
+        assertThat(decoded.getMovieIndex().search("actor x").cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should give identical catalogs the same version")
+    void testVersionIsContentBased() {
+        CatalogSnapshot other = new CatalogSnapshotBuilder()
+                .add(Movie.builder().title("Movie 1").build())
+                .build();
+        CatalogSnapshot same = new CatalogSnapshotBuilder()
+                .add(Movie.builder().title("Movie 1").build())
+                .build();
+
+        assertThat(other.getVersion()).isEqualTo(same.getVersion()).isNotEqualTo(snapshot.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should reject payloads that are not snapshots")
+    void testRejectsGarbage() {
+        assertThatThrownBy(() -> CatalogSnapshotCodec.decode(new byte[]{1, 2, 3}))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
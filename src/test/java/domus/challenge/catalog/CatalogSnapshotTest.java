@@ -0,0 +1,89 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.request.CatalogFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CatalogSnapshot Tests")
+class CatalogSnapshotTest {
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new CatalogSnapshotBuilder()
+                .add(Movie.builder().title("Movie 1").year(2011).genre("Drama").rated("R").director("Director A")
+                        .actors("Actor X, Actor Y").writer("Writer W").build())
+                .add(Movie.builder().title("Movie 2").year(2015).genre("Drama, Thriller").rated("R").director("Director A")
+                        .actors("Actor X").writer("Writer W, Writer V").build())
+                .add(Movie.builder().title("Movie 3").year(2016).genre(" Thriller ,Crime").rated("PG-13").director("Director B")
+                        .actors("Actor Y,Actor X, ").build())
+                .add(Movie.builder().title("Movie 4").year(2020).rated("PG-13").director("Director B").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should select every movie when no filter is given")
+    void testSelectAll() {
+        assertThat(snapshot.select(CatalogFilter.NONE).cardinality()).isEqualTo(4);
+        assertThat(snapshot.valuesWithMoreThan(Dimension.DIRECTOR, 1, CatalogFilter.NONE))
+                .containsExactly("Director A", "Director B");
+    }
+
+    @Test
+    @DisplayName("Should resolve inclusive year ranges against the year index")
+    void testYearRange() {
+        CatalogFilter filter = CatalogFilter.builder().yearFrom(2013).yearTo(2016).build();
+
+        assertThat(snapshot.select(filter).stream().toArray())
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should tokenize comma-separated genres into the genre index")
+    void testGenreTokens() {
+        CatalogFilter thriller = CatalogFilter.builder().genre("thriller").build();
+
+        assertThat(snapshot.select(thriller).stream().toArray()).containsExactly(1, 2);
+        assertThat(snapshot.select(CatalogFilter.builder().genre("Crime").build()).cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should intersect filters and return nothing for unknown values")
+    void testCombinedAndUnknownFilters() {
+        CatalogFilter filter = CatalogFilter.builder().rated("PG-13").yearFrom(2017).build();
+
+        assertThat(snapshot.valuesWithMoreThan(Dimension.DIRECTOR, 0, filter)).containsExactly("Director B");
+        assertThat(snapshot.valuesWithMoreThan(Dimension.DIRECTOR, 0, CatalogFilter.builder().genre("Western").build())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count every entry of multi-valued actor and writer fields")
+    void testMultiValuedDimensions() {
+        assertThat(snapshot.valuesWithMoreThan(Dimension.ACTOR, 1, CatalogFilter.NONE))
+                .containsExactly("Actor X", "Actor Y");
+        assertThat(snapshot.valuesWithMoreThan(Dimension.ACTOR, 2, CatalogFilter.NONE))
+                .containsExactly("Actor X");
+        assertThat(snapshot.valuesWithMoreThan(Dimension.WRITER, 0, CatalogFilter.NONE))
+                .containsExactly("Writer V", "Writer W");
+        assertThat(snapshot.valuesWithMoreThan(Dimension.GENRE, 1, CatalogFilter.NONE))
+                .containsExactly("Drama", "Thriller");
+    }
+
+    @Test
+    @DisplayName("Should rebuild a movie from its columns")
+    void testMovieReconstruction() {
+        Movie movie = snapshot.movie(1);
+
+        assertThat(movie.getTitle()).isEqualTo("Movie 2");
+        assertThat(movie.getYear()).isEqualTo(2015);
+        assertThat(movie.getRated()).isEqualTo("R");
+        assertThat(movie.getGenre()).isEqualTo("Drama, Thriller");
+        assertThat(movie.getWriter()).isEqualTo("Writer W, Writer V");
+        assertThat(snapshot.movie(3).getGenre()).isNull();
+    }
+}
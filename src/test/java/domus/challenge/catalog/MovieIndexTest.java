@@ -0,0 +1,45 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MovieIndex Tests")
+class MovieIndexTest {
+
+    private MovieIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CatalogSnapshotBuilder()
+                .add(Movie.builder().title("The Wolf of Wall Street").actors("Leonardo DiCaprio, Jonah Hill").build())
+                .add(Movie.builder().title("Shutter Island").actors("Leonardo DiCaprio, Mark Ruffalo").build())
+                .add(Movie.builder().title("Wall-E").actors("Ben Burtt").build())
+                .build()
+                .getMovieIndex();
+    }
+
+    @Test
+    @DisplayName("Should match title and actor tokens case-insensitively")
+    void testExactTokens() {
+        assertThat(index.search("wall").stream().toArray()).containsExactly(0, 2);
+        assertThat(index.search("DICAPRIO").stream().toArray()).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("Should treat every term as a prefix and intersect terms")
+    void testPrefixAndIntersection() {
+        assertThat(index.search("leo isl").stream().toArray()).containsExactly(1);
+        assertThat(index.search("sh").stream().toArray()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown or blank queries")
+    void testNoMatches() {
+        assertThat(index.search("zzz").isEmpty()).isTrue();
+        assertThat(index.search("  ").isEmpty()).isTrue();
+    }
+}
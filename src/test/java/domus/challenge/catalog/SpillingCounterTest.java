@@ -0,0 +1,64 @@
+package domus.challenge.catalog;
+
+import domus.challenge.model.dto.Movie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpillingCounter Tests")
+class SpillingCounterTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    @DisplayName("Should count in memory without touching disk while under budget")
+    void testInMemory() {
+        try (SpillingCounter counter = new SpillingCounter(1 << 20, spillDirectory)) {
+            counter.add(Dimension.DIRECTOR, Movie.builder().director("Director B").build());
+            counter.add(Dimension.DIRECTOR, Movie.builder().director("Director A").build());
+            counter.add(Dimension.DIRECTOR, Movie.builder().director(" Director A ").build());
+            counter.add(Dimension.ACTOR, Movie.builder().actors("Actor X,Actor Y, ").build());
+
+            assertThat(counter.valuesWithMoreThan(0)).containsExactly("Actor X", "Actor Y", "Director A", "Director B");
+            assertThat(counter.valuesWithMoreThan(1)).containsExactly("Director A");
+            assertThat(counter.getSpillCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the estimated footprint within budget by spilling sorted runs and merge them exactly")
+    void testSpillAndMerge() throws IOException {
+        long budget = 4_096;
+        List<String> expected = new ArrayList<>();
+        try (SpillingCounter counter = new SpillingCounter(budget, spillDirectory)) {
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 500; i++) {
+                    counter.add("Director " + i);
+                }
+            }
+            for (int i = 0; i < 500; i += 7) {
+                counter.add("Director " + i);
+                expected.add("Director " + i);
+            }
+            expected.sort(null);
+
+            assertThat(counter.getSpillCount()).isGreaterThan(1);
+            assertThat(counter.getPeakBytes()).isLessThanOrEqualTo(budget + 128);
+            assertThat(counter.valuesWithMoreThan(3)).isEqualTo(expected);
+        }
+
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
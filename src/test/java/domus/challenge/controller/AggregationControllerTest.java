@@ -0,0 +1,75 @@
+package domus.challenge.controller;
+
+import domus.challenge.catalog.Dimension;
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.model.response.ActorResponse;
+import domus.challenge.model.response.WriterResponse;
+import domus.challenge.service.AggregationService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(AggregationController.class)
+@DisplayName("AggregationController Tests")
+class AggregationControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private AggregationService aggregationService;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+    @Test
+    @DisplayName("Should return actors above the threshold")
+    void testGetActors() {
+        when(aggregationService.getValuesAboveThreshold(Dimension.ACTOR, 2, CatalogFilter.NONE))
+                .thenReturn(Mono.just(List.of("Actor X", "Actor Y")));
+
+        webTestClient.get()
+                .uri("/actors?threshold=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ActorResponse.class)
+                .value(resp -> assertThat(resp.getActors()).containsExactly("Actor X", "Actor Y"));
+
+        verify(aggregationService).getValuesAboveThreshold(Dimension.ACTOR, 2, CatalogFilter.NONE);
+    }
+
+    @Test
+    @DisplayName("Should return writers matching the filter")
+    void testGetWritersFiltered() {
+        CatalogFilter filter = CatalogFilter.builder().yearFrom(2015).build();
+        when(aggregationService.getValuesAboveThreshold(Dimension.WRITER, 1, filter))
+                .thenReturn(Mono.just(List.of("Writer W")));
+
+        webTestClient.get()
+                .uri("/writers?threshold=1&yearFrom=2015")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(WriterResponse.class)
+                .value(resp -> assertThat(resp.getWriters()).containsExactly("Writer W"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when threshold is missing")
+    void testMissingThreshold() {
+        webTestClient.get()
+                .uri("/genres")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -1,9 +1,15 @@
 package domus.challenge.controller;
 
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.catalog.CatalogSnapshotBuilder;
 import domus.challenge.exception.ApiException;
+import domus.challenge.exception.ServiceUnavailableException;
 import domus.challenge.exception.TooManyRequestsException;
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.request.CatalogFilter;
 import domus.challenge.model.response.DirectorResponse;
 import domus.challenge.model.response.ErrorResponse;
+import domus.challenge.service.CatalogService;
 import domus.challenge.service.DirectorService;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import org.junit.jupiter.api.DisplayName;
@@ -15,9 +21,12 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +40,9 @@ class DirectorControllerTest {
     @MockitoBean
     private DirectorService directorService;
 
+    @MockitoBean
+    private CatalogService catalogService;
+
     @MockitoBean
     private RateLimiter rateLimiter;
 
@@ -55,6 +67,84 @@ class DirectorControllerTest {
         verify(directorService).getDirectorsByThreshold(4);
     }
 
+    @Test
+    @DisplayName("Should pass catalog filters to the service")
+    void testGetDirectorsWithFilters() {
+        CatalogFilter filter = CatalogFilter.builder().yearFrom(2015).genre("Drama").build();
+        DirectorResponse response = DirectorResponse.builder()
+                .directors(Arrays.asList("Martin Scorsese"))
+                .build();
+
+        when(directorService.getDirectorsByThreshold(3, filter))
+                .thenReturn(Mono.just(response));
+
+        webTestClient.get()
+                .uri("/directors?threshold=3&yearFrom=2015&genre=Drama")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(DirectorResponse.class)
+                .value(resp -> assertThat(resp.getDirectors()).containsExactly("Martin Scorsese"));
+
+        verify(directorService).getDirectorsByThreshold(3, filter);
+    }
+
+    @Test
+    @DisplayName("Should tag responses with an ETag and Cache-Control from the snapshot")
+    void testGetDirectorsCachingHeaders() {
+        CatalogSnapshot snapshot = new CatalogSnapshotBuilder().build();
+        when(catalogService.getCurrentSnapshot()).thenReturn(snapshot);
+        when(catalogService.getExpiresAt(snapshot)).thenReturn(Instant.now().plusSeconds(120));
+        when(directorService.getDirectorsByThreshold(4))
+                .thenReturn(Mono.just(DirectorResponse.builder().directors(Arrays.asList("Woody Allen")).build()));
+
+        String etag = "\"" + Long.toHexString(snapshot.getVersion()) + "-4\"";
+
+        webTestClient.get()
+                .uri("/directors?threshold=4")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectHeader().value("Cache-Control", value -> assertThat(value).matches("max-age=1[12]\\d, public"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 without calling the service when If-None-Match matches")
+    void testGetDirectorsNotModified() {
+        CatalogSnapshot snapshot = new CatalogSnapshotBuilder().build();
+        when(catalogService.getCurrentSnapshot()).thenReturn(snapshot);
+        when(catalogService.getExpiresAt(snapshot)).thenReturn(Instant.now().plusSeconds(120));
+
+        webTestClient.get()
+                .uri("/directors?threshold=4")
+                .header("If-None-Match", "\"" + Long.toHexString(snapshot.getVersion()) + "-4\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        verify(directorService, never()).getDirectorsByThreshold(4);
+    }
+
+    @Test
+    @DisplayName("Should omit the ETag when the snapshot changes while the request is computed")
+    void testGetDirectorsSnapshotSwappedDuringRequest() {
+        CatalogSnapshot before = new CatalogSnapshotBuilder().build();
+        CatalogSnapshot after = new CatalogSnapshotBuilder()
+                .add(Movie.builder().title("Movie 1").director("Woody Allen").build())
+                .build();
+        when(catalogService.getCurrentSnapshot()).thenReturn(before, after);
+        when(catalogService.getExpiresAt(any())).thenReturn(Instant.now().plusSeconds(120));
+        when(directorService.getDirectorsByThreshold(4))
+                .thenReturn(Mono.just(DirectorResponse.builder().directors(Arrays.asList("Woody Allen")).build()));
+
+        webTestClient.get()
+                .uri("/directors?threshold=4")
+                .header("If-None-Match", "\"stale-4\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("ETag")
+                .expectHeader().doesNotExist("Cache-Control");
+    }
+
     @Test
     @DisplayName("Should return 400 when threshold is missing")
     void testGetDirectorsMissingThreshold() {
@@ -95,6 +185,26 @@ class DirectorControllerTest {
         verify(directorService).getDirectorsByThreshold(2);
     }
 
+    @Test
+    @DisplayName("Should return 503 with Retry-After when the request is shed")
+    void testGetDirectorsLoadShed() {
+        when(directorService.getDirectorsByThreshold(5))
+                .thenReturn(Mono.error(new ServiceUnavailableException("Too many pending requests", 7)));
+
+        webTestClient.get()
+                .uri("/directors?threshold=5")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectHeader().valueEquals("Retry-After", "7")
+                .expectBody(ErrorResponse.class)
+                .value(errorResponse -> {
+                    assertThat(errorResponse.getStatus()).isEqualTo(503);
+                    assertThat(errorResponse.getMessage()).isEqualTo("Too many pending requests");
+                });
+
+        verify(directorService).getDirectorsByThreshold(5);
+    }
+
     @Test
     @DisplayName("Should return 500 when ApiException is thrown")
     void testGetDirectorsApiException() {
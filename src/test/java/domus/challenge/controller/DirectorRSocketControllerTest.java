@@ -0,0 +1,123 @@
+package domus.challenge.controller;
+
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.model.request.DirectorsRequest;
+import domus.challenge.model.response.DirectorResponse;
+import domus.challenge.model.response.ThresholdDirectorResponse;
+import domus.challenge.service.DirectorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.rsocket.server.LocalRSocketServerPort;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@DisplayName("DirectorRSocketController Tests")
+class DirectorRSocketControllerTest {
+
+    @LocalRSocketServerPort
+    private int port;
+
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    @MockitoBean
+    private DirectorService directorService;
+
+    private RSocketRequester requester;
+
+    @BeforeEach
+    void setUp() {
+        requester = requesterBuilder.tcp("localhost", port);
+        when(directorService.getDirectorsByThreshold(anyInt())).thenAnswer(invocation -> {
+            int threshold = invocation.getArgument(0);
+            return Mono.just(DirectorResponse.builder().directors(List.of("Director " + threshold)).build());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        requester.dispose();
+    }
+
+    @Test
+    @DisplayName("Should answer a single threshold query over request-response")
+    void testRequestResponse() {
+        StepVerifier.create(requester.route("directors")
+                        .data(DirectorsRequest.builder().threshold(4).build())
+                        .retrieveMono(DirectorResponse.class))
+                .assertNext(response -> assertThat(response.getDirectors()).containsExactly("Director 4"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should pass filters through to the filtered service call")
+    void testFilteredRequest() {
+        CatalogFilter filter = CatalogFilter.builder().genre("Drama").yearFrom(2015).build();
+        when(directorService.getDirectorsByThreshold(eq(1), any(CatalogFilter.class)))
+                .thenReturn(Mono.just(DirectorResponse.builder().directors(List.of("Director A")).build()));
+
+        StepVerifier.create(requester.route("directors")
+                        .data(DirectorsRequest.builder().threshold(1).genre("Drama").yearFrom(2015).build())
+                        .retrieveMono(DirectorResponse.class))
+                .assertNext(response -> assertThat(response.getDirectors()).containsExactly("Director A"))
+                .verifyComplete();
+
+        verify(directorService).getDirectorsByThreshold(1, filter);
+    }
+
+    @Test
+    @DisplayName("Should stream one tagged answer per requested threshold")
+    void testRequestStream() {
+        StepVerifier.create(requester.route("directors.stream")
+                        .data(DirectorsRequest.builder().thresholds(List.of(3, 1, 2)).build())
+                        .retrieveFlux(ThresholdDirectorResponse.class)
+                        .map(ThresholdDirectorResponse::getThreshold))
+                .expectNext(3, 1, 2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer every query sent over a request-channel")
+    void testRequestChannel() {
+        Flux<DirectorsRequest> queries = Flux.range(0, 50)
+                .map(threshold -> DirectorsRequest.builder().threshold(threshold).build());
+
+        StepVerifier.create(requester.route("directors.channel")
+                        .data(queries)
+                        .retrieveFlux(ThresholdDirectorResponse.class)
+                        .collectList())
+                .assertNext(responses -> {
+                    assertThat(responses).hasSize(50);
+                    assertThat(responses).allSatisfy(response ->
+                            assertThat(response.getDirectors()).containsExactly("Director " + response.getThreshold()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a request without threshold")
+    void testMissingThreshold() {
+        StepVerifier.create(requester.route("directors")
+                        .data(new DirectorsRequest())
+                        .retrieveMono(DirectorResponse.class))
+                .expectErrorMessage("threshold is required")
+                .verify();
+    }
+}
@@ -0,0 +1,108 @@
+package domus.challenge.controller;
+
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.model.response.ErrorResponse;
+import domus.challenge.service.MovieSearchService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(MovieController.class)
+@DisplayName("MovieController Tests")
+class MovieControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private MovieSearchService movieSearchService;
+
+    @MockitoBean
+    private RateLimiter rateLimiter;
+
+    @Test
+    @DisplayName("Should return 200 with the requested page of matches")
+    void testSearchSuccess() {
+        MovieApiResponse response = MovieApiResponse.builder()
+                .page(2)
+                .per_page(5)
+                .total(7)
+                .total_pages(2)
+                .data(List.of(Movie.builder().title("Shutter Island").build()))
+                .build();
+
+        when(movieSearchService.search("shut", 2, 5)).thenReturn(Mono.just(response));
+
+        webTestClient.get()
+                .uri("/movies/search?q=shut&page=2&per_page=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(MovieApiResponse.class)
+                .value(resp -> {
+                    assertThat(resp.getPage()).isEqualTo(2);
+                    assertThat(resp.getTotal()).isEqualTo(7);
+                    assertThat(resp.getData()).extracting(Movie::getTitle).containsExactly("Shutter Island");
+                });
+
+        verify(movieSearchService).search("shut", 2, 5);
+    }
+
+    @Test
+    @DisplayName("Should default to the first page of 10 movies")
+    void testSearchDefaults() {
+        when(movieSearchService.search("wall", 1, 10))
+                .thenReturn(Mono.just(MovieApiResponse.builder().page(1).per_page(10).data(List.of()).build()));
+
+        webTestClient.get()
+                .uri("/movies/search?q=wall")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(movieSearchService).search("wall", 1, 10);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the query is missing")
+    void testSearchMissingQuery() {
+        webTestClient.get()
+                .uri("/movies/search")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should return 429 when the rate limiter rejects the request")
+    void testSearchRateLimitExceeded() {
+        when(rateLimiter.reservePermission(1)).thenReturn(-1L);
+        when(rateLimiter.getName()).thenReturn("default");
+        when(rateLimiter.getRateLimiterConfig()).thenReturn(RateLimiterConfig.ofDefaults());
+        when(movieSearchService.search(anyString(), anyInt(), anyInt()))
+                .thenReturn(Mono.just(MovieApiResponse.builder().data(List.of()).build()));
+
+        webTestClient.get()
+                .uri("/movies/search?q=wall")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectBody(ErrorResponse.class)
+                .value(errorResponse -> {
+                    assertThat(errorResponse.getStatus()).isEqualTo(429);
+                    assertThat(errorResponse.getMessage()).isEqualTo("Rate limit exceeded. Try again later");
+                });
+    }
+}
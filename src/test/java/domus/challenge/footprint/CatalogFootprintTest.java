@@ -0,0 +1,125 @@
+package domus.challenge.footprint;
+
+import com.sun.management.ThreadMXBean;
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.catalog.Dimension;
+import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.service.CatalogService;
+import domus.challenge.service.DirectorService;
+import domus.challenge.service.MovieApiClient;
+import domus.challenge.support.SyntheticCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Memory budgets for the catalog data path, measured through the real
+ * {@link DirectorService} pipeline. Retained snapshot size comes from JOL, allocation
+ * per crawl from the JVM's per-thread allocation counters. Upstream pages are generated
+ * before the measured window, so the allocation budget covers the data path from
+ * decoded pages to the published snapshot, not the fixture. Budgets are set in the pom
+ * ({@code footprint.*} properties) so tightening them is a reviewed change.
+ */
+@SpringBootTest(properties = "access-log.enabled=false")
+@DisplayName("Catalog footprint Tests")
+class CatalogFootprintTest {
+
+    private static final long SNAPSHOT_BYTES_PER_MOVIE = Long.getLong("footprint.snapshot-bytes-per-movie", 320);
+    private static final long SNAPSHOT_BYTES_PER_DIRECTOR = Long.getLong("footprint.snapshot-bytes-per-director", 128);
+    private static final long CRAWL_BYTES_PER_MOVIE = Long.getLong("footprint.crawl-allocated-bytes-per-movie", 1_200);
+
+    private static boolean warmedUp;
+
+    @Autowired
+    private DirectorService directorService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @MockitoBean
+    private MovieApiClient movieApiClient;
+
+    @BeforeEach
+    void warmUp() {
+        // First crawl in the JVM pays for class loading and JIT; keep it out of the numbers.
+        if (!warmedUp) {
+            crawl(new SyntheticCatalog(20_000, 1_000, 2_000, 2_000));
+            warmedUp = true;
+        }
+    }
+
+    @ParameterizedTest(name = "{0} movies")
+    @ValueSource(ints = {10_000, 40_000, 160_000})
+    @DisplayName("Should keep retained bytes and crawl allocation per movie within budget")
+    void testBytesPerMovie(int movies) {
+        Footprint footprint = crawl(new SyntheticCatalog(movies, 1_000, movies / 10, 2_000));
+
+        assertThat(footprint.retainedBytes / movies)
+                .as("retained snapshot bytes per movie (%d bytes for %d movies)", footprint.retainedBytes, movies)
+                .isLessThanOrEqualTo(SNAPSHOT_BYTES_PER_MOVIE);
+        assertThat(footprint.allocatedBytes / movies)
+                .as("bytes allocated per movie by one crawl (%d bytes for %d movies)", footprint.allocatedBytes, movies)
+                .isLessThanOrEqualTo(CRAWL_BYTES_PER_MOVIE);
+    }
+
+    @Test
+    @DisplayName("Should keep the marginal retained cost of a distinct director within budget")
+    void testBytesPerDirector() {
+        Footprint few = crawl(new SyntheticCatalog(40_000, 1_000, 1_000, 2_000));
+        Footprint many = crawl(new SyntheticCatalog(40_000, 1_000, 40_000, 2_000));
+
+        long extraDirectors = many.directors - few.directors;
+        long bytesPerDirector = (many.retainedBytes - few.retainedBytes) / extraDirectors;
+
+        assertThat(extraDirectors).isGreaterThan(10_000);
+        assertThat(bytesPerDirector)
+                .as("retained bytes per additional director (%d extra directors)", extraDirectors)
+                .isLessThanOrEqualTo(SNAPSHOT_BYTES_PER_DIRECTOR);
+    }
+
+    private Footprint crawl(SyntheticCatalog catalog) {
+        MovieApiResponse[] pages = new MovieApiResponse[catalog.totalPages()];
+        for (int page = 1; page <= pages.length; page++) {
+            pages[page - 1] = catalog.page(page);
+        }
+        doAnswer(invocation -> Mono.just(pages[invocation.<Integer>getArgument(0) - 1]))
+                .when(movieApiClient).getMoviesPage(anyInt());
+        catalogService.invalidate();
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getTotalThreadAllocatedBytes();
+        directorService.getDirectorsByThreshold(0).block(Duration.ofSeconds(60));
+        long allocated = threads.getTotalThreadAllocatedBytes() - before;
+
+        CatalogSnapshot snapshot = catalogService.getCurrentSnapshot();
+        assertThat(snapshot.size()).isEqualTo(catalog.movies());
+        return new Footprint(snapshot.distinctValues(Dimension.DIRECTOR),
+                GraphLayout.parseInstance(snapshot).totalSize(), allocated);
+    }
+
+    private static final class Footprint {
+        private final int directors;
+        private final long retainedBytes;
+        private final long allocatedBytes;
+
+        private Footprint(int directors, long retainedBytes, long allocatedBytes) {
+            this.directors = directors;
+            this.retainedBytes = retainedBytes;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
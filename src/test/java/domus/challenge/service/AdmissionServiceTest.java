@@ -0,0 +1,131 @@
+package domus.challenge.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import domus.challenge.exception.ServiceUnavailableException;
+import domus.challenge.service.imp.AdmissionServiceImp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdmissionService Tests")
+class AdmissionServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionServiceImp admissionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionService = new AdmissionServiceImp(meterRegistry);
+
+        ReflectionTestUtils.setField(admissionService, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(admissionService, "maxQueue", 1);
+        ReflectionTestUtils.setField(admissionService, "queueTargetMillis", 100L);
+        ReflectionTestUtils.setField(admissionService, "queueIntervalMillis", 500L);
+        ReflectionTestUtils.setField(admissionService, "maxQueueTimeMillis", 200L);
+        ReflectionTestUtils.setField(admissionService, "retryAfterSeconds", 3L);
+    }
+
+    @Test
+    @DisplayName("Should run the computation immediately when a slot is free")
+    void testAdmitImmediately() {
+        StepVerifier.create(admissionService.admit(Mono.just("done")))
+                .expectNext("done")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should run a queued computation once the running one finishes")
+    void testAdmitAfterRelease() {
+        Sinks.One<String> running = Sinks.one();
+        admissionService.admit(running.asMono()).subscribe(value -> {}, error -> {});
+
+        StepVerifier.create(admissionService.admit(Mono.just("queued")))
+                .then(() -> {
+                    assertThat(meterRegistry.get("admission.queue.depth").gauge().value()).isEqualTo(1.0);
+                    running.tryEmitValue("first");
+                })
+                .expectNext("queued")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should shed with 503 when the queue is full")
+    void testShedWhenQueueFull() {
+        admissionService.admit(Mono.never()).subscribe(value -> {}, error -> {});
+        admissionService.admit(Mono.never()).subscribe(value -> {}, error -> {});
+
+        StepVerifier.create(admissionService.admit(Mono.just("rejected")))
+                .expectErrorSatisfies(throwable -> {
+                    assertThat(throwable).isInstanceOf(ServiceUnavailableException.class);
+                    assertThat(((ServiceUnavailableException) throwable).getRetryAfterSeconds()).isEqualTo(3);
+                })
+                .verify();
+
+        assertThat(meterRegistry.get("admission.shed").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should shed a waiter that exceeds the maximum queue time")
+    void testShedAfterQueueTime() {
+        admissionService.admit(Mono.never()).subscribe(value -> {}, error -> {});
+
+        StepVerifier.create(admissionService.admit(Mono.just("late")))
+                .expectError(ServiceUnavailableException.class)
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(meterRegistry.get("admission.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("admission.shed").tag("reason", "queue_time").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should shed CoDel-style once queue time stays above target for a whole interval")
+    void testShedWhenSojournStaysAboveTarget() {
+        ReflectionTestUtils.setField(admissionService, "maxQueue", 2);
+        ReflectionTestUtils.setField(admissionService, "queueTargetMillis", 20L);
+        ReflectionTestUtils.setField(admissionService, "queueIntervalMillis", 100L);
+        ReflectionTestUtils.setField(admissionService, "maxQueueTimeMillis", 5000L);
+        AtomicLong nanos = new AtomicLong();
+        ReflectionTestUtils.setField(admissionService, "ticker", (Ticker) nanos::get);
+
+        Sinks.One<String> running = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        AtomicReference<String> secondResult = new AtomicReference<>();
+        admissionService.admit(running.asMono()).subscribe(value -> {}, error -> {});
+        admissionService.admit(second.asMono()).subscribe(secondResult::set, error -> {});
+
+        StepVerifier.create(admissionService.admit(Mono.just("dropped")))
+                .then(() -> {
+                    // Above target, but only just: starts the interval and still admits.
+                    nanos.set(TimeUnit.MILLISECONDS.toNanos(50));
+                    running.tryEmitValue("first");
+                    // Still above target once the interval has elapsed: shed.
+                    nanos.set(TimeUnit.MILLISECONDS.toNanos(200));
+                    second.tryEmitValue("second");
+                })
+                .expectErrorSatisfies(throwable -> {
+                    assertThat(throwable).isInstanceOf(ServiceUnavailableException.class);
+                    assertThat(((ServiceUnavailableException) throwable).getRetryAfterSeconds()).isEqualTo(3);
+                })
+                .verify(Duration.ofSeconds(2));
+
+        assertThat(secondResult.get()).isEqualTo("second");
+        assertThat(meterRegistry.get("admission.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("admission.shed").tag("reason", "queue_time").counter().count())
+                .isEqualTo(1.0);
+    }
+}
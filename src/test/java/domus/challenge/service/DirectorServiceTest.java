@@ -1,20 +1,42 @@
 package domus.challenge.service;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import domus.challenge.accesslog.AccessLog;
+import domus.challenge.cache.OffHeapCache;
+import domus.challenge.catalog.CatalogRefreshedEvent;
+import domus.challenge.catalog.Dimension;
 import domus.challenge.model.dto.Movie;
 import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.model.request.DirectorQuery;
 import domus.challenge.model.response.DirectorResponse;
+import domus.challenge.service.imp.DirectorServiceImp;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.AopTestUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -29,9 +51,17 @@ class DirectorServiceTest {
     @Autowired
     private DirectorService directorService;
 
+    @Autowired
+    private CatalogService catalogService;
+
     @MockitoBean
     private MovieApiClient movieApiClient;
 
+    @BeforeEach
+    void setUp() {
+        catalogService.invalidate();
+    }
+
     @Test
     @DisplayName("Should return directors with more movies than threshold")
     void testGetDirectorsByThresholdSuccess() {
@@ -145,10 +175,10 @@ class DirectorServiceTest {
                 .build();
 
         Object targetService = AopTestUtils.getTargetObject(directorService);
-        Cache<Integer, DirectorResponse> cache = (Cache<Integer, DirectorResponse>)
+        Cache<DirectorQuery, DirectorResponse> cache = (Cache<DirectorQuery, DirectorResponse>)
                 ReflectionTestUtils.getField(targetService, "directorsCache");
 
-        cache.put(threshold, cachedResponse);
+        cache.put(DirectorQuery.of(threshold), cachedResponse);
 
         StepVerifier.create(directorService.getDirectorsByThreshold(threshold))
                 .assertNext(response -> assertThat(response.getDirectors())
@@ -158,4 +188,93 @@ class DirectorServiceTest {
         verify(movieApiClient, never()).getMoviesPage(anyInt());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should not cache a result computed while the catalog was refreshed")
+    void testRefreshDuringComputeIsNotCached() {
+        AggregationService aggregationService = mock(AggregationService.class);
+        Cache<DirectorQuery, DirectorResponse> cache = Caffeine.newBuilder().build();
+        OffHeapCache<DirectorQuery, DirectorResponse> offHeapCache = new OffHeapCache<>(1 << 16, Duration.ofMinutes(1),
+                UnpooledByteBufAllocator.DEFAULT, new ObjectMapper(), DirectorResponse.class);
+        DirectorServiceImp service = new DirectorServiceImp(aggregationService, cache, offHeapCache, new AccessLog());
+
+        when(aggregationService.getValuesAboveThreshold(Dimension.DIRECTOR, 2, CatalogFilter.NONE))
+                .thenReturn(Mono.fromCallable(() -> {
+                    service.onCatalogRefreshed(new CatalogRefreshedEvent(null));
+                    return List.of("Stale Director");
+                }))
+                .thenReturn(Mono.just(List.of("Fresh Director")));
+
+        assertThat(service.getDirectorsByThreshold(2).block().getDirectors()).containsExactly("Stale Director");
+        assertThat(cache.getIfPresent(DirectorQuery.of(2))).isNull();
+        assertThat(offHeapCache.getIfPresent(DirectorQuery.of(2))).isNull();
+
+        assertThat(service.getDirectorsByThreshold(2).block().getDirectors()).containsExactly("Fresh Director");
+        assertThat(cache.getIfPresent(DirectorQuery.of(2)).getDirectors()).containsExactly("Fresh Director");
+    }
+
+    @Test
+    @DisplayName("Should only count movies matching year, genre and rating filters")
+    void testGetDirectorsByThresholdFiltered() {
+        MovieApiResponse page1 = MovieApiResponse.builder()
+                .page(1)
+                .total_pages(1)
+                .data(Arrays.asList(
+                        Movie.builder().title("Movie 1").year(2016).genre("Drama, Crime").rated("R").director("Director A").build(),
+                        Movie.builder().title("Movie 2").year(2018).genre("Drama").rated("R").director("Director A").build(),
+                        Movie.builder().title("Movie 3").year(2012).genre("Drama").rated("R").director("Director A").build(),
+                        Movie.builder().title("Movie 4").year(2017).genre("Comedy").rated("PG").director("Director B").build(),
+                        Movie.builder().title("Movie 5").year(2019).genre("Comedy, Drama").rated("PG").director("Director B").build()
+                ))
+                .build();
+
+        when(movieApiClient.getMoviesPage(1)).thenReturn(Mono.just(page1));
+
+        CatalogFilter sinceDrama = CatalogFilter.builder().yearFrom(2015).genre("drama").build();
+        StepVerifier.create(directorService.getDirectorsByThreshold(1, sinceDrama))
+                .assertNext(response -> assertThat(response.getDirectors()).containsExactly("Director A"))
+                .verifyComplete();
+
+        CatalogFilter ratedPg = CatalogFilter.builder().rated("PG").build();
+        StepVerifier.create(directorService.getDirectorsByThreshold(1, ratedPg))
+                .assertNext(response -> assertThat(response.getDirectors()).containsExactly("Director B"))
+                .verifyComplete();
+
+        verify(movieApiClient, times(1)).getMoviesPage(1);
+    }
+
+    @Test
+    @DisplayName("Should record cache hit and miss events with the shipped JFR settings")
+    void testCacheLookupEventsRecorded() throws Exception {
+        MovieApiResponse page1 = MovieApiResponse.builder()
+                .page(1)
+                .total_pages(1)
+                .data(List.of(Movie.builder().title("Movie 1").director("Director A").build()))
+                .build();
+        when(movieApiClient.getMoviesPage(1)).thenReturn(Mono.just(page1));
+        catalogService.getSnapshot().block();
+
+        Configuration settings;
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource("jfr/challenge.jfc").getInputStream(), StandardCharsets.UTF_8)) {
+            settings = Configuration.create(reader);
+        }
+        Path file = Files.createTempFile("cache-lookup", ".jfr");
+        try (Recording recording = new Recording(settings)) {
+            recording.start();
+
+            directorService.getDirectorsByThreshold(7).block();
+            directorService.getDirectorsByThreshold(7).block();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("domus.challenge.CacheLookup"))
+                .extracting(event -> event.getBoolean("hit"))
+                .containsExactly(false, true);
+    }
+}
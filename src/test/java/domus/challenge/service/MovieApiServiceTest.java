@@ -4,6 +4,9 @@ import domus.challenge.exception.ApiException;
 import domus.challenge.model.dto.Movie;
 import domus.challenge.model.dto.MovieApiResponse;
 import domus.challenge.service.imp.MovieApiServiceImp;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,8 +21,11 @@ import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -118,5 +124,46 @@ class MovieApiServiceTest {
                 .expectErrorMatches(throwable -> throwable instanceof java.util.concurrent.TimeoutException)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should record a PageFetch JFR event per page")
+    void testGetMoviesPageRecordsJfrEvent() throws Exception {
+        MovieApiResponse mockResponse = MovieApiResponse.builder()
+                .page(2)
+                .data(Collections.singletonList(
+                        Movie.builder().title("Movie 1").director("Director A").build()
+                ))
+                .build();
+
+        when(webClient.get()).thenReturn(requestSpec);
+        when(requestSpec.uri("http://asd-api/movies?page={page}", 2)).thenReturn(headersSpec);
+        when(headersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(MovieApiResponse.class)).thenReturn(Mono.just(mockResponse));
+
+        Path file = Files.createTempFile("page-fetch", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("domus.challenge.PageFetch").withThreshold(Duration.ZERO);
+            recording.start();
+
+            StepVerifier.create(movieApiService.getMoviesPage(2))
+                    .expectNext(mockResponse)
+                    .verifyComplete();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("domus.challenge.PageFetch"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getInt("page")).isEqualTo(2);
+                    assertThat(event.getInt("movies")).isEqualTo(1);
+                    assertThat(event.getBoolean("failed")).isFalse();
+                });
+    }
 }
 
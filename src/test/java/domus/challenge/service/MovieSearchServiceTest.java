@@ -0,0 +1,111 @@
+package domus.challenge.service;
+
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.dto.MovieApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "catalog.refresh-interval=1000")
+@DisplayName("MovieSearchService Tests")
+class MovieSearchServiceTest {
+
+    @Autowired
+    private MovieSearchService movieSearchService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @MockitoBean
+    private MovieApiClient movieApiClient;
+
+    @BeforeEach
+    void setUp() {
+        catalogService.invalidate();
+        when(movieApiClient.getMoviesPage(1)).thenReturn(Mono.just(catalog("Alpha", 25)));
+    }
+
+    @Test
+    @DisplayName("Should page matches in catalog order")
+    void testPaging() {
+        StepVerifier.create(movieSearchService.search("alpha", 3, 10))
+                .assertNext(response -> {
+                    assertThat(response.getPage()).isEqualTo(3);
+                    assertThat(response.getPer_page()).isEqualTo(10);
+                    assertThat(response.getTotal()).isEqualTo(25);
+                    assertThat(response.getTotal_pages()).isEqualTo(3);
+                    assertThat(response.getData()).extracting(Movie::getTitle)
+                            .containsExactly("Alpha 21", "Alpha 22", "Alpha 23", "Alpha 24", "Alpha 25");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should clamp per_page to 100 and page to at least 1")
+    void testClampsPaging() {
+        StepVerifier.create(movieSearchService.search("alpha", 0, 500))
+                .assertNext(response -> {
+                    assertThat(response.getPage()).isEqualTo(1);
+                    assertThat(response.getPer_page()).isEqualTo(100);
+                    assertThat(response.getTotal_pages()).isEqualTo(1);
+                    assertThat(response.getData()).hasSize(25);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return an empty page past the last one")
+    void testPageOutOfRange() {
+        StepVerifier.create(movieSearchService.search("alpha", 9, 10))
+                .assertNext(response -> {
+                    assertThat(response.getPage()).isEqualTo(9);
+                    assertThat(response.getTotal()).isEqualTo(25);
+                    assertThat(response.getTotal_pages()).isEqualTo(3);
+                    assertThat(response.getData()).isEmpty();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer from the expired snapshot while refreshing it in the background")
+    void testServesStaleWhileRefreshing() throws InterruptedException {
+        StepVerifier.create(movieSearchService.search("alpha", 1, 10))
+                .assertNext(response -> assertThat(response.getTotal()).isEqualTo(25))
+                .verifyComplete();
+
+        Thread.sleep(1100);
+        when(movieApiClient.getMoviesPage(1)).thenReturn(Mono.just(catalog("Beta", 3)));
+
+        StepVerifier.create(movieSearchService.search("alpha", 1, 10))
+                .assertNext(response -> assertThat(response.getTotal()).isEqualTo(25))
+                .verifyComplete();
+
+        verify(movieApiClient, timeout(5000).times(2)).getMoviesPage(1);
+
+        StepVerifier.create(movieSearchService.search("beta", 1, 10))
+                .assertNext(response -> assertThat(response.getTotal()).isEqualTo(3))
+                .verifyComplete();
+    }
+
+    private static MovieApiResponse catalog(String prefix, int movies) {
+        List<Movie> data = new ArrayList<>();
+        for (int i = 1; i <= movies; i++) {
+            data.add(Movie.builder().title(String.format("%s %02d", prefix, i)).director("Director").build());
+        }
+        return MovieApiResponse.builder().page(1).total_pages(1).data(data).build();
+    }
+}
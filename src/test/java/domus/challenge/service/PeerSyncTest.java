@@ -0,0 +1,150 @@
+package domus.challenge.service;
+
+import domus.challenge.ChallengeApplication;
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.controller.SnapshotController;
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.dto.MovieApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "peer-sync.enabled=true")
+@DisplayName("Peer snapshot sync Tests")
+class PeerSyncTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private MovieApiClient movieApiClient;
+
+    @BeforeEach
+    void setUp() {
+        catalogService.invalidate();
+
+        MovieApiResponse page1 = MovieApiResponse.builder()
+                .page(1)
+                .total_pages(1)
+                .data(Arrays.asList(
+                        Movie.builder().title("Movie 1").year(2015).director("Director A").build(),
+                        Movie.builder().title("Movie 2").year(2016).director("Director A").build(),
+                        Movie.builder().title("Movie 3").year(2017).director("Director B").build()
+                ))
+                .build();
+        when(movieApiClient.getMoviesPage(1)).thenReturn(Mono.just(page1));
+    }
+
+    @Test
+    @DisplayName("Should serve a second instance from the peer instead of upstream")
+    void testSecondInstanceFetchesFromPeer() {
+        CatalogSnapshot published = catalogService.getSnapshot().block(Duration.ofSeconds(5));
+
+        try (ConfigurableApplicationContext follower = new SpringApplicationBuilder(ChallengeApplication.class)
+                .run("--server.port=0",
+                        "--spring.jmx.enabled=false",
+                        "--peer-sync.enabled=true",
+                        "--peer-sync.peers=http://localhost:" + port + "/api",
+                        "--external-api.movies-url=http://localhost:1/unreachable")) {
+
+            CatalogSnapshot fetched = follower.getBean(CatalogService.class)
+                    .getSnapshot()
+                    .block(Duration.ofSeconds(10));
+
+            assertThat(fetched.getVersion()).isEqualTo(published.getVersion());
+            assertThat(fetched.getBuiltAt()).isEqualTo(published.getBuiltAt().truncatedTo(ChronoUnit.MILLIS));
+            assertThat(follower.getBean(DirectorService.class).getDirectorsByThreshold(1).block().getDirectors())
+                    .containsExactly("Director A");
+        }
+
+        verify(movieApiClient, times(1)).getMoviesPage(1);
+    }
+
+    @Test
+    @DisplayName("Should adopt the peer's newer build time on 304 instead of crawling upstream")
+    void testSameContentRefreshAdoptsPeerBuildTime() throws InterruptedException {
+        try (ConfigurableApplicationContext follower = new SpringApplicationBuilder(ChallengeApplication.class)
+                .initializers(context -> ((GenericApplicationContext) context).registerBean("peerTestMovieApiClient",
+                        MovieApiClient.class, () -> movieApiClient, definition -> definition.setPrimary(true)))
+                .run("--server.port=0",
+                        "--spring.jmx.enabled=false",
+                        "--peer-sync.enabled=true",
+                        "--peer-sync.peers=http://localhost:" + port + "/api",
+                        "--catalog.refresh-interval=1500")) {
+
+            CatalogService followerCatalog = follower.getBean(CatalogService.class);
+            catalogService.getSnapshot().block(Duration.ofSeconds(5));
+            CatalogSnapshot first = followerCatalog.getSnapshot().block(Duration.ofSeconds(5));
+
+            Thread.sleep(1600);
+            catalogService.invalidate();
+            CatalogSnapshot rebuilt = catalogService.getSnapshot().block(Duration.ofSeconds(5));
+            clearInvocations(movieApiClient);
+
+            CatalogSnapshot refreshed = followerCatalog.getSnapshot().block(Duration.ofSeconds(5));
+
+            assertThat(rebuilt.getVersion()).isEqualTo(first.getVersion());
+            assertThat(refreshed.getVersion()).isEqualTo(first.getVersion());
+            assertThat(refreshed.getBuiltAt()).isEqualTo(rebuilt.getBuiltAt());
+            assertThat(refreshed.getBuiltAt()).isAfter(first.getBuiltAt());
+        }
+
+        verify(movieApiClient, never()).getMoviesPage(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the peer already has the current version")
+    void testNotModifiedForSameVersion() {
+        CatalogSnapshot published = catalogService.getSnapshot().block(Duration.ofSeconds(5));
+
+        webTestClient.get()
+                .uri(SnapshotController.PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, SnapshotController.etag(published))
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.get()
+                .uri(SnapshotController.PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, SnapshotController.etag(published));
+    }
+
+    @Test
+    @DisplayName("Should answer 204 when no snapshot has been loaded yet")
+    void testNoContentBeforeFirstLoad() {
+        webTestClient.get()
+                .uri(SnapshotController.PATH)
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+}
@@ -0,0 +1,95 @@
+package domus.challenge.service;
+
+import domus.challenge.catalog.CatalogSnapshot;
+import domus.challenge.catalog.CatalogSnapshotBuilder;
+import domus.challenge.catalog.Dimension;
+import domus.challenge.model.request.CatalogFilter;
+import domus.challenge.support.SyntheticCatalog;
+import domus.challenge.support.SyntheticCatalogStub;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "aggregation.mode=spill",
+        "aggregation.spill.memory-budget=262144",
+        "external-api.max-concurrent-requests=4"
+})
+@DisplayName("Spilling aggregation Tests")
+class SpillingAggregationTest {
+
+    private static final SyntheticCatalog CATALOG = new SyntheticCatalog(200_000, 2_000, 50_000);
+
+    private static SyntheticCatalogStub stub;
+    private static CatalogSnapshot reference;
+
+    @Autowired
+    private AggregationService aggregationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void buildReference() {
+        CatalogSnapshotBuilder builder = new CatalogSnapshotBuilder();
+        for (int page = 1; page <= CATALOG.totalPages(); page++) {
+            CATALOG.page(page).getData().forEach(builder::add);
+        }
+        reference = builder.build();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @DynamicPropertySource
+    static void moviesUrl(DynamicPropertyRegistry registry) {
+        stub = new SyntheticCatalogStub(CATALOG, 0);
+        registry.add("external-api.movies-url", stub::moviesUrl);
+    }
+
+    @Test
+    @DisplayName("Should match the in-memory snapshot over a high-cardinality catalog while spilling")
+    void testMatchesSnapshotWhileSpilling() {
+        double runsBefore = meterRegistry.counter("aggregation.spill.runs").count();
+
+        List<String> directors = aggregationService
+                .getValuesAboveThreshold(Dimension.DIRECTOR, 5, CatalogFilter.NONE)
+                .block(Duration.ofSeconds(60));
+
+        assertThat(directors)
+                .isNotEmpty()
+                .isEqualTo(reference.valuesWithMoreThan(Dimension.DIRECTOR, 5, CatalogFilter.NONE));
+        assertThat(meterRegistry.counter("aggregation.spill.runs").count()).isGreaterThan(runsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should apply filters row by row and agree with the snapshot bitmaps")
+    void testFilteredMultiValued() {
+        CatalogFilter filter = CatalogFilter.builder().yearFrom(1970).yearTo(1990).genre("thriller").build();
+
+        List<String> actors = aggregationService
+                .getValuesAboveThreshold(Dimension.ACTOR, 3, filter)
+                .block(Duration.ofSeconds(60));
+
+        assertThat(actors).isEqualTo(reference.valuesWithMoreThan(Dimension.ACTOR, 3, filter));
+        assertThat(aggregationService.getValuesAboveThreshold(Dimension.DIRECTOR, 1_000, CatalogFilter.NONE).block())
+                .containsExactlyElementsOf(IntStream.range(0, SyntheticCatalog.PROLIFIC_DIRECTORS)
+                        .mapToObj(i -> "Prolific Director " + i)
+                        .sorted()
+                        .toList());
+    }
+}
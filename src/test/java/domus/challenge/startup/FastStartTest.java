@@ -0,0 +1,69 @@
+package domus.challenge.startup;
+
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.dto.MovieApiResponse;
+import domus.challenge.service.MovieApiClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("fast-start")
+@DisplayName("Fast-start profile Tests")
+class FastStartTest {
+
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @MockitoBean
+    private MovieApiClient movieApiClient;
+
+    @Test
+    @DisplayName("Should stay out of service until the warm-up has loaded the catalog")
+    void testReadinessFollowsCatalog() {
+        assertThat(readiness()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        when(movieApiClient.getMoviesPage(1)).thenReturn(Mono.just(MovieApiResponse.builder()
+                .page(1)
+                .total_pages(1)
+                .data(List.of(Movie.builder().title("Movie 1").director("Director A").build()))
+                .build()));
+
+        Status ready = Flux.interval(Duration.ofMillis(100))
+                .map(tick -> readiness())
+                .filter(Status.UP::equals)
+                .blockFirst(Duration.ofSeconds(15));
+
+        assertThat(ready).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("Should defer docs beans but keep application beans eager")
+    void testLazyInitialization() {
+        assertThat(beanFactory.getBeanDefinition("swaggerConfig").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("customOpenAPI").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("catalogServiceImp").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("directorController").isLazyInit()).isFalse();
+    }
+
+    private Status readiness() {
+        return healthEndpoint.healthForPath("readiness").getStatus();
+    }
+}
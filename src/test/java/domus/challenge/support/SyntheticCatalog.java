@@ -0,0 +1,89 @@
+package domus.challenge.support;
+
+import domus.challenge.model.dto.Movie;
+import domus.challenge.model.dto.MovieApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic catalog of arbitrary size. Every movie is derived from its index, so
+ * pages are generated on demand and nothing but the parameters is ever held in memory.
+ * One movie in ten goes to a small set of prolific directors; the rest spread over
+ * {@code directors} names, which gives a high-cardinality long tail. Writers and actors
+ * are drawn from {@code cast} names.
+ */
+public final class SyntheticCatalog {
+
+    public static final int PROLIFIC_DIRECTORS = 10;
+
+    private static final String[] GENRES = {"Drama", "Comedy", "Thriller", "Crime", "Horror", "Romance"};
+    private static final String[] RATINGS = {"G", "PG", "PG-13", "R"};
+
+    private final int movies;
+    private final int pageSize;
+    private final int directors;
+    private final int cast;
+
+    public SyntheticCatalog(int movies, int pageSize, int directors) {
+        this(movies, pageSize, directors, directors);
+    }
+
+    public SyntheticCatalog(int movies, int pageSize, int directors, int cast) {
+        this.movies = movies;
+        this.pageSize = pageSize;
+        this.directors = directors;
+        this.cast = cast;
+    }
+
+    public int movies() {
+        return movies;
+    }
+
+    public int totalPages() {
+        return (movies + pageSize - 1) / pageSize;
+    }
+
+    public MovieApiResponse page(int page) {
+        int from = (page - 1) * pageSize;
+        int to = Math.min(movies, from + pageSize);
+        List<Movie> data = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            data.add(movie(i));
+        }
+        return MovieApiResponse.builder()
+                .page(page)
+                .per_page(pageSize)
+                .total(movies)
+                .total_pages(totalPages())
+                .data(data)
+                .build();
+    }
+
+    public Movie movie(int index) {
+        long hash = mix(index);
+        return Movie.builder()
+                .title("Synthetic Movie " + index)
+                .year(1950 + (int) (hash >>> 8 & 0x3f))
+                .rated(RATINGS[(int) (hash >>> 16 & 3)])
+                .genre(GENRES[(int) ((hash >>> 20) % GENRES.length)] + ", " + GENRES[index % GENRES.length])
+                .director(director(index))
+                .writer("Writer " + (hash >>> 32) % cast)
+                .actors("Actor " + (hash >>> 24) % cast + ", Actor " + index % 1000)
+                .build();
+    }
+
+    public String director(int index) {
+        long hash = mix(index);
+        return index % 10 == 0
+                ? "Prolific Director " + hash % PROLIFIC_DIRECTORS
+                : "Director " + hash % directors;
+    }
+
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (z ^ (z >>> 31)) >>> 1;
+    }
+}
@@ -0,0 +1,56 @@
+package domus.challenge.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.util.List;
+
+/**
+ * Local HTTP stand-in for the movies API that serves a {@link SyntheticCatalog} page by
+ * page at {@link #PATH}. Run {@link #main} to point a local instance at it by hand.
+ */
+public final class SyntheticCatalogStub implements AutoCloseable {
+
+    public static final String PATH = "/api/movies/search";
+
+    // Own event loops: closing an application context disposes Reactor Netty's global ones.
+    private final LoopResources loops = LoopResources.create("synthetic-catalog", 1, true);
+    private final DisposableServer server;
+
+    public SyntheticCatalogStub(SyntheticCatalog catalog, int port) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        this.server = HttpServer.create()
+                .runOn(loops)
+                .port(port)
+                .route(routes -> routes.get(PATH, (request, response) -> {
+                    List<String> page = new QueryStringDecoder(request.uri()).parameters().get("page");
+                    int number = page == null ? 1 : Integer.parseInt(page.get(0));
+                    return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                            .sendByteArray(Mono.fromCallable(() -> objectMapper.writeValueAsBytes(catalog.page(number))));
+                }))
+                .bindNow();
+    }
+
+    public String moviesUrl() {
+        return "http://localhost:" + server.port() + PATH;
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+        loops.dispose();
+    }
+
+    public static void main(String[] args) {
+        int movies = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int directors = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        SyntheticCatalogStub stub = new SyntheticCatalogStub(new SyntheticCatalog(movies, 1_000, directors), 8089);
+        System.out.println("Serving " + movies + " synthetic movies at " + stub.moviesUrl());
+        stub.server.onDispose().block();
+    }
+}